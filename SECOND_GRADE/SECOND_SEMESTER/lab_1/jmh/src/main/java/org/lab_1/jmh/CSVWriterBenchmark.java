@@ -0,0 +1,47 @@
+package org.lab_1.jmh;
+
+import org.lab_1.CSVWriter;
+import org.lab_1.WordData;
+import org.lab_1.WordFrequency;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CSVWriterBenchmark {
+    private WordData wordData;
+    private Set<WordFrequency> wordsSet;
+    private Path output;
+
+    @Setup(Level.Trial)
+    public void countCorpus(CorpusState state) throws IOException {
+        wordData = new WordData();
+        wordData.processFileData(state.corpus.toString());
+        wordsSet = wordData.getWordsSet();
+        output = Files.createTempFile("benchmark", ".csv");
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteOutput() throws IOException {
+        Files.deleteIfExists(output);
+    }
+
+    @Benchmark
+    public void writeTable() {
+        CSVWriter.writeToFile(output.toString(), wordData.getWordsTable());
+    }
+
+    @Benchmark
+    public void writeSet() {
+        CSVWriter.writeToFile(output.toString(), wordsSet);
+    }
+}
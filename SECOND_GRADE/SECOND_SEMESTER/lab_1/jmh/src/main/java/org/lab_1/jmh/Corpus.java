@@ -0,0 +1,77 @@
+package org.lab_1.jmh;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+public class Corpus {
+    private static final long SEED = 42;
+    private static final double ZIPF_EXPONENT = 1.0;
+    private static final int WORDS_PER_LINE = 12;
+
+    public static Path generate(String script, int vocabularySize, int wordCount) throws IOException {
+        Random random = new Random(SEED);
+        String[] vocabulary = vocabulary(script, vocabularySize, random);
+        double[] cumulative = zipfDistribution(vocabularySize);
+
+        Path file = Files.createTempFile("corpus-" + script + "-" + vocabularySize + "-" + wordCount, ".txt");
+        file.toFile().deleteOnExit();
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 1; i <= wordCount; i++) {
+                writer.write(vocabulary[sample(cumulative, random.nextDouble())]);
+                writer.write(i % WORDS_PER_LINE == 0 ? "\n" : (i % 5 == 0 ? ", " : " "));
+            }
+        }
+        return file;
+    }
+
+    private static String[] vocabulary(String script, int size, Random random) {
+        char first;
+        int letters;
+        switch (script) {
+            case "ascii" -> { first = 'a'; letters = 26; }
+            case "cyrillic" -> { first = 'а'; letters = 32; }
+            default -> throw new IllegalArgumentException("Unknown script: " + script);
+        }
+
+        String[] vocabulary = new String[size];
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < size; ) {
+            char[] word = new char[3 + random.nextInt(8)];
+            for (int j = 0; j < word.length; j++) {
+                word[j] = (char) (first + random.nextInt(letters));
+            }
+            if (seen.add(new String(word))) {
+                if (random.nextInt(10) == 0) {
+                    word[0] = Character.toUpperCase(word[0]);
+                }
+                vocabulary[i++] = new String(word);
+            }
+        }
+        return vocabulary;
+    }
+
+    private static double[] zipfDistribution(int size) {
+        double[] cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1 / Math.pow(rank + 1, ZIPF_EXPONENT);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static int sample(double[] cumulative, double value) {
+        int index = Arrays.binarySearch(cumulative, value);
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,36 @@
+package org.lab_1.jmh;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@State(Scope.Benchmark)
+public class CorpusState {
+    @Param({"ascii", "cyrillic"})
+    public String script;
+
+    @Param({"1000", "100000"})
+    public int vocabularySize;
+
+    @Param({"100000", "1000000"})
+    public int wordCount;
+
+    public Path corpus;
+
+    @Setup(Level.Trial)
+    public void generateCorpus() throws IOException {
+        corpus = Corpus.generate(script, vocabularySize, wordCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteCorpus() throws IOException {
+        Files.deleteIfExists(corpus);
+    }
+}
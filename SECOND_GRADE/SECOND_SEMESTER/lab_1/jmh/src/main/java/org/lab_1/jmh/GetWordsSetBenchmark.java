@@ -0,0 +1,29 @@
+package org.lab_1.jmh;
+
+import org.lab_1.WordData;
+import org.lab_1.WordFrequency;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GetWordsSetBenchmark {
+    private WordData wordData;
+
+    @Setup(Level.Trial)
+    public void countCorpus(CorpusState state) {
+        wordData = new WordData();
+        wordData.processFileData(state.corpus.toString());
+    }
+
+    @Benchmark
+    public Set<WordFrequency> getWordsSet() {
+        return wordData.getWordsSet();
+    }
+}
@@ -0,0 +1,21 @@
+package org.lab_1.jmh;
+
+import org.lab_1.WordCountTable;
+import org.lab_1.WordData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProcessFileDataBenchmark {
+    @Benchmark
+    public WordCountTable processFileData(CorpusState state) {
+        WordData wordData = new WordData();
+        wordData.processFileData(state.corpus.toString());
+        return wordData.getWordsTable();
+    }
+}
@@ -0,0 +1,64 @@
+package org.lab_1.jmh;
+
+import org.lab_1.Tokenizer;
+import org.lab_1.TokenizerKind;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenizerBenchmark {
+    @Param({"legacy", "ascii", "unicode", "nfc"})
+    public String tokenizer;
+
+    private byte[] text;
+
+    @Setup(Level.Trial)
+    public void readCorpus(CorpusState state) throws IOException {
+        text = Files.readAllBytes(state.corpus);
+    }
+
+    @Benchmark
+    public void tokenize(Blackhole blackhole) throws IOException {
+        if (tokenizer.equals("legacy")) {
+            tokenizeLegacy(blackhole);
+            return;
+        }
+        Tokenizer words = TokenizerKind.parse(tokenizer).create((word, length) -> blackhole.consume(length));
+        words.feed(text, 0, text.length);
+        words.finish();
+    }
+
+    private void tokenizeLegacy(Blackhole blackhole) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(text), StandardCharsets.UTF_8))) {
+            String line;
+            StringBuilder wordBuilder = new StringBuilder();
+
+            while ((line = reader.readLine()) != null) {
+                for (char ch : line.toCharArray()) {
+                    if (Character.isLetterOrDigit(ch)) {
+                        wordBuilder.append(ch);
+                    } else if (!wordBuilder.isEmpty()) {
+                        blackhole.consume(wordBuilder.toString().toLowerCase());
+                        wordBuilder.setLength(0);
+                    }
+                }
+            }
+            if (!wordBuilder.isEmpty()) {
+                blackhole.consume(wordBuilder.toString().toLowerCase());
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.lab_1.jmh;
+
+import org.lab_1.Tokenizer;
+import org.lab_1.TokenizerKind;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class VectorTokenizerBenchmark {
+    @Param({"ascii", "unicode", "nfc"})
+    public String tokenizer;
+
+    @Param({"scalar", "vector"})
+    public String path;
+
+    private byte[] text;
+
+    @Setup(Level.Trial)
+    public void readCorpus(CorpusState state) throws IOException {
+        text = Files.readAllBytes(state.corpus);
+    }
+
+    @Benchmark
+    public void tokenize(Blackhole blackhole) {
+        TokenizerKind kind = TokenizerKind.parse(tokenizer);
+        Tokenizer words = path.equals("vector")
+                ? kind.create((word, length) -> blackhole.consume(length))
+                : kind.createScalar((word, length) -> blackhole.consume(length));
+        words.feed(text, 0, text.length);
+        words.finish();
+    }
+}
@@ -0,0 +1,74 @@
+package org.lab_1;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+public class ApproximateCounter implements WordSink {
+    private final CountMinSketch sketch;
+    private final SpaceSaving heavyHitters;
+    private long totalWords;
+
+    public ApproximateCounter(CountMinSketch sketch, int heavyHitterCapacity) {
+        this.sketch = sketch;
+        this.heavyHitters = new SpaceSaving(heavyHitterCapacity);
+    }
+
+    public long getTotalWords() { return totalWords; }
+
+    @Override
+    public void accept(byte[] word, int length) {
+        long hash = hash64(word, length);
+        totalWords++;
+        sketch.add(hash);
+        heavyHitters.offer(word, length, hash);
+    }
+
+    public List<WordFrequency> getTopWords(int limit) {
+        int[] estimates = new int[heavyHitters.size()];
+        Arrays.setAll(estimates, this::estimate);
+        TopKSelector selector = new TopKSelector(Math.max(1, Math.min(limit, estimates.length)), (a, b) ->
+                estimates[a] != estimates[b] ? Integer.compare(estimates[b], estimates[a]) : heavyHitters.compareWords(a, b));
+        for (int entry = 0; entry < estimates.length; entry++) {
+            selector.offer(entry);
+        }
+
+        List<WordFrequency> topWords = new ArrayList<>();
+        for (int entry : selector.sorted()) {
+            int count = estimates[entry];
+            topWords.add(new WordFrequency(heavyHitters.word(entry), count, (float) count / totalWords * 100));
+        }
+        return topWords;
+    }
+
+    public long errorBound() {
+        long spaceSavingBound = totalWords / heavyHitters.getCapacity();
+        long sketchBound = (long) Math.ceil(sketch.epsilon() * totalWords);
+        return Math.min(spaceSavingBound, sketchBound);
+    }
+
+    public String describeErrorBound() {
+        return String.format(Locale.ROOT,
+                "Approximate counts: each frequency overestimates the true count by at most %d of %d words "
+                        + "with probability %.4f (sketch %dx%d, epsilon=%.3g, %d heavy hitters)",
+                errorBound(), totalWords, 1 - sketch.delta(), sketch.getWidth(), sketch.getDepth(),
+                sketch.epsilon(), heavyHitters.getCapacity());
+    }
+
+    private int estimate(int entry) {
+        return Math.min(heavyHitters.count(entry), sketch.estimate(heavyHitters.hash(entry)));
+    }
+
+    static long hash64(byte[] word, int length) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < length; i++) {
+            h = (h ^ (word[i] & 0xFF)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+}
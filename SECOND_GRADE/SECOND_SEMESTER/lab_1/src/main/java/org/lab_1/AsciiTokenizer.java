@@ -0,0 +1,78 @@
+package org.lab_1;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public class AsciiTokenizer implements Tokenizer {
+    private static final byte[] FOLDED = new byte[256];
+
+    static {
+        for (int ch = 0; ch < 128; ch++) {
+            if (Character.isLetterOrDigit(ch)) {
+                FOLDED[ch] = (byte) Character.toLowerCase(ch);
+            }
+        }
+    }
+
+    private final WordSink sink;
+    private final PositionSink positionSink;
+    private byte[] word = new byte[64];
+    private int wordLength;
+    private long position;
+    private long wordStart;
+
+    public AsciiTokenizer(WordSink sink) {
+        this.sink = sink;
+        this.positionSink = sink instanceof PositionSink positions ? positions : null;
+    }
+
+    @Override
+    public void feed(ByteBuffer buffer) {
+        int limit = buffer.limit();
+        for (int i = buffer.position(); i < limit; i++) {
+            feedByte(buffer.get(i));
+            position++;
+        }
+        buffer.position(limit);
+    }
+
+    @Override
+    public void feed(byte[] buffer, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            feedByte(buffer[i]);
+            position++;
+        }
+    }
+
+    @Override
+    public void finish() {
+        endWord();
+        position = 0;
+    }
+
+    private void feedByte(byte b) {
+        byte folded = FOLDED[b & 0xFF];
+        if (folded == 0) {
+            endWord();
+            return;
+        }
+        if (wordLength == 0) {
+            wordStart = position;
+        }
+        if (wordLength == word.length) {
+            word = Arrays.copyOf(word, word.length * 2);
+        }
+        word[wordLength++] = folded;
+    }
+
+    private void endWord() {
+        if (wordLength > 0) {
+            if (positionSink != null) {
+                positionSink.accept(word, wordLength, wordStart);
+            } else {
+                sink.accept(word, wordLength);
+            }
+            wordLength = 0;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package org.lab_1;
+
+import java.io.IOException;
+
+@FunctionalInterface
+public interface BlockSink {
+    byte[] accept(byte[] block, int length) throws IOException;
+}
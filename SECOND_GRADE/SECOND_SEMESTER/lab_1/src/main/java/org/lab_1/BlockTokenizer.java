@@ -0,0 +1,29 @@
+package org.lab_1;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+public class BlockTokenizer {
+    private static final int BLOCK_SIZE = 1 << 16;
+
+    private final Tokenizer tokenizer;
+    private final ByteBuffer bytes = ByteBuffer.allocateDirect(BLOCK_SIZE);
+
+    public BlockTokenizer(Tokenizer tokenizer) {
+        this.tokenizer = tokenizer;
+    }
+
+    public void tokenize(ReadableByteChannel channel) throws IOException {
+        bytes.clear();
+        try {
+            while (channel.read(bytes) != -1) {
+                bytes.flip();
+                tokenizer.feed(bytes);
+                bytes.clear();
+            }
+        } finally {
+            tokenizer.finish();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package org.lab_1;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.*;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Set;
+
+public class CSVRowWriter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final Set<Charset> ASCII_CHARSETS = Set.of(
+            StandardCharsets.UTF_8, StandardCharsets.US_ASCII, StandardCharsets.ISO_8859_1);
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CharsetEncoder encoder;
+    private final boolean utf8;
+    private final boolean asciiBytes;
+    private final Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+    private final boolean asciiDigits;
+    private final char decimalSeparator;
+
+    public CSVRowWriter(String outputFileName) throws IOException {
+        Charset charset = Charset.defaultCharset();
+        encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        utf8 = charset.equals(StandardCharsets.UTF_8);
+        asciiBytes = ASCII_CHARSETS.contains(charset);
+
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        asciiDigits = symbols.getZeroDigit() == '0';
+        decimalSeparator = symbols.getDecimalSeparator();
+
+        channel = FileChannel.open(Path.of(outputFileName),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
+
+    public CSVRowWriter text(String text) throws IOException {
+        if (!asciiBytes) {
+            return encode(text);
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch >= 0x80) {
+                return encode(text.substring(i));
+            }
+            ensureRemaining(1);
+            buffer.put((byte) ch);
+        }
+        return this;
+    }
+
+    public CSVRowWriter word(byte[] word, int offset, int length) throws IOException {
+        if (!asciiBytes || !utf8 && !isAscii(word, offset, length)) {
+            return encode(new String(word, offset, length, StandardCharsets.UTF_8));
+        }
+        if (length > BUFFER_SIZE) {
+            flush();
+            ByteBuffer wrapped = ByteBuffer.wrap(word, offset, length);
+            while (wrapped.hasRemaining()) {
+                channel.write(wrapped);
+            }
+            return this;
+        }
+        ensureRemaining(length);
+        buffer.put(word, offset, length);
+        return this;
+    }
+
+    public CSVRowWriter word(WordArena arena, int start, int length) throws IOException {
+        if (!asciiBytes || !utf8 && !isAscii(arena.read(start, length), 0, length)) {
+            return encode(arena.decode(start, length));
+        }
+        if (length > BUFFER_SIZE) {
+            flush();
+            ByteBuffer word = arena.slice(start, length);
+            while (word.hasRemaining()) {
+                channel.write(word);
+            }
+            return this;
+        }
+        ensureRemaining(length);
+        arena.copyTo(start, buffer, length);
+        return this;
+    }
+
+    public CSVRowWriter number(long value) throws IOException {
+        if (!asciiBytes || value < 0) {
+            return encode(Long.toString(value));
+        }
+        ensureRemaining(19);
+        int length = digitCount(value);
+        int end = buffer.position() + length;
+        for (int i = end - 1; i >= buffer.position(); i--) {
+            buffer.put(i, (byte) ('0' + value % 10));
+            value /= 10;
+        }
+        buffer.position(end);
+        return this;
+    }
+
+    public CSVRowWriter percent(float value) throws IOException {
+        if (!asciiBytes || !asciiDigits || !(value >= 0) || value == Float.POSITIVE_INFINITY) {
+            return text(String.format(locale, "%.3f", value));
+        }
+        long thousandths = roundToThousandths(value);
+        number(thousandths / 1000);
+        if (decimalSeparator < 0x80) {
+            ensureRemaining(1);
+            buffer.put((byte) decimalSeparator);
+        } else {
+            encode(String.valueOf(decimalSeparator));
+        }
+        int fraction = (int) (thousandths % 1000);
+        ensureRemaining(3);
+        buffer.put((byte) ('0' + fraction / 100))
+                .put((byte) ('0' + fraction / 10 % 10))
+                .put((byte) ('0' + fraction % 10));
+        return this;
+    }
+
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            encoder.encode(CharBuffer.allocate(0), buffer, true);
+            encoder.flush(buffer);
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    static long roundToThousandths(float value) {
+        int bits = Float.floatToRawIntBits(value);
+        int exponent = (bits >>> 23) & 0xFF;
+        long mantissa = bits & 0x7FFFFF;
+        if (exponent == 0) {
+            exponent = 1;
+        } else {
+            mantissa |= 1 << 23;
+        }
+        int shift = 150 - exponent;
+        long scaled = mantissa * 1000;
+        if (shift <= 0) {
+            return scaled << -shift;
+        }
+        if (shift > 40) {
+            return 0;
+        }
+        return (scaled + (1L << (shift - 1))) >>> shift;
+    }
+
+    private CSVRowWriter encode(String text) throws IOException {
+        CharBuffer chars = CharBuffer.wrap(text);
+        while (true) {
+            CoderResult result = encoder.encode(chars, buffer, false);
+            if (!result.isOverflow()) {
+                return this;
+            }
+            flush();
+        }
+    }
+
+    private void ensureRemaining(int length) throws IOException {
+        if (buffer.remaining() < length) {
+            flush();
+        }
+    }
+
+    private static boolean isAscii(byte[] word, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            if (word[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int digitCount(long value) {
+        int count = 1;
+        while (value >= 10) {
+            value /= 10;
+            count++;
+        }
+        return count;
+    }
+}
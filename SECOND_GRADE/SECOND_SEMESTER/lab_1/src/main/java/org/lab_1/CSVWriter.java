@@ -1,21 +1,88 @@
 package org.lab_1;
 import java.io.*;
+import java.nio.file.Path;
 import java.util.*;
 
 
 public class CSVWriter {
+    private static final String HEADER = "Word,Frequency,FPP(%)\n";
+
     public static void writeToFile(String outputFileName, Set<WordFrequency> wordsSet) {
         List<WordFrequency> sortedWords = wordsSet.stream()
                 .sorted(Comparator.comparing(WordFrequency::frequencyPercent).reversed())
                 .toList();
+        writeSortedToFile(outputFileName, sortedWords);
+    }
+
+    public static void writeSortedToFile(String outputFileName, List<WordFrequency> sortedWords) {
+        writeSortedToFile(outputFileName, sortedWords, null);
+    }
 
-        try (BufferedWriter fileWriter = new BufferedWriter(new FileWriter(outputFileName))) {
-            fileWriter.write("Word,Frequency,FPP(%)\n");
+    public static void writeSortedToFile(String outputFileName, List<WordFrequency> sortedWords, String note) {
+        try (CSVRowWriter rowWriter = new CSVRowWriter(outputFileName)) {
+            rowWriter.text(HEADER);
             for (WordFrequency wf : sortedWords) {
-                fileWriter.write(wf.word() + "," + wf.count() + "," + String.format("%.3f", wf.frequencyPercent()) + "\n");
+                rowWriter.text(wf.word()).text(",").number(wf.count()).text(",").percent(wf.frequencyPercent()).text("\n");
+            }
+            if (note != null) {
+                rowWriter.text("# ").text(note).text("\n");
+            }
+        } catch (IOException e) {
+            System.err.println("Unable to write into file: " + e.getLocalizedMessage());
+        }
+    }
+
+    public static void writeToFile(String outputFileName, WordCountTable wordsTable) {
+        int[] sortedIds = wordsTable.idsByFrequency();
+        long totalWords = wordsTable.totalCount();
+        WordArena arena = wordsTable.arena();
+        try (CSVRowWriter rowWriter = new CSVRowWriter(outputFileName)) {
+            rowWriter.text(HEADER);
+            for (int id : sortedIds) {
+                int count = wordsTable.count(id);
+                float frequencyPercent = (float) count / totalWords * 100;
+                rowWriter.word(arena, wordsTable.wordOffset(id), wordsTable.wordLength(id))
+                        .text(",").number(count).text(",").percent(frequencyPercent).text("\n");
             }
         } catch (IOException e) {
             System.err.println("Unable to write into file: " + e.getLocalizedMessage());
         }
     }
-}
\ No newline at end of file
+
+    public static void writeToFile(String outputFileName, NGramCounter nGrams, int order, int limit) {
+        LongCountTable table = nGrams.table(order);
+        int[] sortedIds = nGrams.idsByFrequency(order, limit);
+        long totalNGrams = table.totalCount();
+        WordCountTable words = nGrams.words();
+        int[] wordIds = new int[order];
+        try (CSVRowWriter rowWriter = new CSVRowWriter(outputFileName)) {
+            rowWriter.text(HEADER);
+            for (int id : sortedIds) {
+                nGrams.wordIds(order, id, wordIds);
+                for (int position = 0; position < order; position++) {
+                    if (position > 0) {
+                        rowWriter.text(" ");
+                    }
+                    rowWriter.word(words.arena(), words.wordOffset(wordIds[position]), words.wordLength(wordIds[position]));
+                }
+                int count = table.count(id);
+                float frequencyPercent = (float) count / totalNGrams * 100;
+                rowWriter.text(",").number(count).text(",").percent(frequencyPercent).text("\n");
+            }
+        } catch (IOException e) {
+            System.err.println("Unable to write into file: " + e.getLocalizedMessage());
+        }
+    }
+
+    public static void writeToFile(String outputFileName, List<Path> frequencyRuns, long totalWords, long limit) throws IOException {
+        try (RunMerger merger = new RunMerger(frequencyRuns, RunReader::compareByFrequency, false);
+             CSVRowWriter rowWriter = new CSVRowWriter(outputFileName)) {
+            rowWriter.text(HEADER);
+            for (long row = 0; row < limit && merger.next(); row++) {
+                float frequencyPercent = (float) merger.count() / totalWords * 100;
+                rowWriter.word(merger.word(), 0, merger.length())
+                        .text(",").number(merger.count()).text(",").percent(frequencyPercent).text("\n");
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.lab_1;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.UnaryOperator;
+
+public class CharClassTable {
+    public static final byte WORD = 1;
+    public static final byte SPECIAL = 2;
+    public static final byte CONTINUATION = 4;
+
+    public static final CharClassTable UNICODE = new CharClassTable(
+            Character::isLetterOrDigit,
+            cp -> false,
+            Character::toLowerCase,
+            cp -> cp == 'İ' || cp == 'Σ',
+            String::toLowerCase,
+            true);
+
+    private final byte[] flags = new byte[Character.MAX_VALUE + 1];
+    private final char[] folded = new char[Character.MAX_VALUE + 1];
+    private final IntPredicate isWord;
+    private final IntPredicate continuesWord;
+    private final IntUnaryOperator fold;
+    private final IntPredicate isSpecial;
+    private final UnaryOperator<String> slowPath;
+    private final boolean localeSensitive;
+
+    private CharClassTable(IntPredicate isWord, IntPredicate continuesWord, IntUnaryOperator fold,
+                           IntPredicate isSpecial, UnaryOperator<String> slowPath, boolean localeSensitive) {
+        this.isWord = isWord;
+        this.continuesWord = continuesWord;
+        this.fold = fold;
+        this.isSpecial = isSpecial;
+        this.slowPath = slowPath;
+        this.localeSensitive = localeSensitive;
+        for (int ch = 0; ch <= Character.MAX_VALUE; ch++) {
+            if (Character.isSurrogate((char) ch)) {
+                continue;
+            }
+            int foldedChar = fold.applyAsInt(ch);
+            flags[ch] = classify(ch);
+            if (foldedChar > Character.MAX_VALUE) {
+                flags[ch] |= SPECIAL;
+                foldedChar = ch;
+            }
+            folded[ch] = (char) foldedChar;
+        }
+    }
+
+    public static CharClassTable nfcCaseFold() {
+        return NfcHolder.TABLE;
+    }
+
+    public boolean isLocaleSensitive() { return localeSensitive; }
+
+    public byte flags(int codePoint) {
+        return codePoint <= Character.MAX_VALUE ? flags[codePoint] : classify(codePoint);
+    }
+
+    public int fold(int codePoint) {
+        return codePoint <= Character.MAX_VALUE ? folded[codePoint] : fold.applyAsInt(codePoint);
+    }
+
+    public String slowPath(String word) {
+        return slowPath.apply(word);
+    }
+
+    private byte classify(int codePoint) {
+        byte classFlags = 0;
+        if (isWord.test(codePoint)) {
+            classFlags |= WORD;
+        } else if (continuesWord.test(codePoint)) {
+            classFlags |= CONTINUATION;
+        }
+        if (classFlags != 0 && isSpecial.test(codePoint)) {
+            classFlags |= SPECIAL;
+        }
+        return classFlags;
+    }
+
+    private static boolean isMark(int codePoint) {
+        int type = Character.getType(codePoint);
+        return type == Character.NON_SPACING_MARK || type == Character.ENCLOSING_MARK
+                || type == Character.COMBINING_SPACING_MARK;
+    }
+
+    private static int simpleCaseFold(int codePoint) {
+        if (codePoint == 'ı') {
+            return codePoint;
+        }
+        return Character.toLowerCase(Character.toUpperCase(Character.toLowerCase(codePoint)));
+    }
+
+    private static String fullCaseFold(int codePoint) {
+        if (codePoint == 'ı') {
+            return "ı";
+        }
+        return Character.toString(codePoint).toLowerCase(Locale.ROOT).toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean needsNormalization(int codePoint) {
+        if (codePoint < 0x80) {
+            return false;
+        }
+        if (codePoint > Character.MAX_VALUE || isMark(codePoint)
+                || codePoint >= 0x1161 && codePoint <= 0x1175 || codePoint >= 0x11A8 && codePoint <= 0x11C2) {
+            return true;
+        }
+        return !Normalizer.isNormalized(String.valueOf((char) codePoint), Normalizer.Form.NFC)
+                || !fullCaseFold(codePoint).equals(Character.toString(simpleCaseFold(codePoint)));
+    }
+
+    private static String caseFoldNfc(String word) {
+        StringBuilder folded = new StringBuilder(word.length());
+        Normalizer.normalize(word, Normalizer.Form.NFC).codePoints().forEach(cp -> folded.append(fullCaseFold(cp)));
+        return Normalizer.normalize(folded, Normalizer.Form.NFC);
+    }
+
+    private static class NfcHolder {
+        static final CharClassTable TABLE = new CharClassTable(
+                Character::isLetterOrDigit,
+                CharClassTable::isMark,
+                CharClassTable::simpleCaseFold,
+                CharClassTable::needsNormalization,
+                CharClassTable::caseFoldNfc,
+                false);
+    }
+}
@@ -0,0 +1,44 @@
+package org.lab_1;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+public class ChunkCountTask extends RecursiveTask<WordCountTable> {
+    private static final long serialVersionUID = 1L;
+
+    private final FileChannel channel;
+    private final List<FileChunk> chunks;
+    private final boolean mapped;
+    private final TokenizerKind tokenizerKind;
+
+    public ChunkCountTask(FileChannel channel, List<FileChunk> chunks, boolean mapped, TokenizerKind tokenizerKind) {
+        this.channel = channel;
+        this.chunks = chunks;
+        this.mapped = mapped;
+        this.tokenizerKind = tokenizerKind;
+    }
+
+    @Override
+    protected WordCountTable compute() {
+        if (chunks.size() == 1) {
+            try {
+                return WordData.countChunk(channel, chunks.get(0), mapped, tokenizerKind);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        if (chunks.isEmpty()) {
+            return new WordCountTable();
+        }
+
+        int middle = chunks.size() / 2;
+        ChunkCountTask left = new ChunkCountTask(channel, chunks.subList(0, middle), mapped, tokenizerKind);
+        ChunkCountTask right = new ChunkCountTask(channel, chunks.subList(middle, chunks.size()), mapped, tokenizerKind);
+        left.fork();
+        WordCountTable rightTable = right.compute();
+        return WordData.mergeInto(left.join(), rightTable);
+    }
+}
@@ -0,0 +1,71 @@
+package org.lab_1;
+
+public class CountMinSketch {
+    private static final int MAX_CELLS = Integer.MAX_VALUE - 8;
+
+    private final int width;
+    private final int depth;
+    private final int[] cells;
+
+    public CountMinSketch(int width, int depth) {
+        this.cells = new int[cellCount(width, depth)];
+        this.width = width;
+        this.depth = depth;
+    }
+
+    public static CountMinSketch withErrorBounds(double epsilon, double delta) {
+        return new CountMinSketch(widthFor(epsilon), depthFor(delta));
+    }
+
+    public static int widthFor(double epsilon) {
+        double width = Math.ceil(Math.E / epsilon);
+        if (width > MAX_CELLS) {
+            throw new IllegalArgumentException("Epsilon " + epsilon + " needs a sketch wider than " + MAX_CELLS + " cells.");
+        }
+        return (int) width;
+    }
+
+    public static int depthFor(double delta) {
+        return Math.max(1, (int) Math.ceil(Math.log(1 / delta)));
+    }
+
+    public static int cellCount(int width, int depth) {
+        if (width <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("Sketch width and depth must be positive.");
+        }
+        long cells = Math.multiplyExact((long) width, depth);
+        if (cells > MAX_CELLS) {
+            throw new IllegalArgumentException("Sketch of " + width + " x " + depth + " cells exceeds the limit of " + MAX_CELLS + " cells.");
+        }
+        return (int) cells;
+    }
+
+    public int getWidth() { return width; }
+    public int getDepth() { return depth; }
+    public double epsilon() { return Math.E / width; }
+    public double delta() { return Math.exp(-depth); }
+
+    public int add(long hash) {
+        int estimate = estimate(hash) + 1;
+        for (int row = 0; row < depth; row++) {
+            int cell = cellIndex(hash, row);
+            if (cells[cell] < estimate) {
+                cells[cell] = estimate;
+            }
+        }
+        return estimate;
+    }
+
+    public int estimate(long hash) {
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, cells[cellIndex(hash, row)]);
+        }
+        return estimate;
+    }
+
+    private int cellIndex(long hash, int row) {
+        int rowHash = (int) hash + row * (int) (hash >>> 32);
+        return row * width + (int) (((rowHash & 0xFFFFFFFFL) * width) >>> 32);
+    }
+}
@@ -0,0 +1,70 @@
+package org.lab_1;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+public record FileChunk(long start, long end) {
+    private static final int PROBE_SIZE = 4096;
+
+    public long length() { return end - start; }
+
+    public static List<FileChunk> split(FileChannel channel, int chunkCount) throws IOException {
+        long size = channel.size();
+        List<FileChunk> chunks = new ArrayList<>();
+        long start = 0;
+
+        for (int i = 1; i < chunkCount && start < size; i++) {
+            long end = alignToWordBoundary(channel, Math.max(start, size * i / chunkCount), size);
+            if (end > start) {
+                chunks.add(new FileChunk(start, end));
+                start = end;
+            }
+        }
+        if (start < size) {
+            chunks.add(new FileChunk(start, size));
+        }
+        return chunks;
+    }
+
+    private static long alignToWordBoundary(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer probe = ByteBuffer.allocate(PROBE_SIZE);
+        while (position < size) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (isAsciiSeparator(probe.get(i))) {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    public static long lastWordBoundary(FileChannel channel, long from, long to) throws IOException {
+        ByteBuffer probe = ByteBuffer.allocate(PROBE_SIZE);
+        long position = to;
+        while (position > from) {
+            long blockStart = Math.max(from, position - PROBE_SIZE);
+            probe.clear().limit((int) (position - blockStart));
+            int read = channel.read(probe, blockStart);
+            for (int i = read - 1; i >= 0; i--) {
+                if (isAsciiSeparator(probe.get(i))) {
+                    return blockStart + i + 1;
+                }
+            }
+            position = blockStart;
+        }
+        return from;
+    }
+
+    static boolean isAsciiSeparator(byte b) {
+        return b >= 0 && !Character.isLetterOrDigit(b);
+    }
+}
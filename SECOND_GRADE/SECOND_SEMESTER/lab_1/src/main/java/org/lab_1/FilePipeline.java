@@ -0,0 +1,120 @@
+package org.lab_1;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+
+public class FilePipeline {
+    private static final long BATCH_BYTES = 4L << 20;
+    private static final int BATCH_FILES = 256;
+    private static final long REPORT_INTERVAL_SECONDS = 1;
+
+    private final int threads;
+    private final TokenizerKind tokenizerKind;
+    private final boolean mapped;
+    private final boolean reportProgress;
+
+    public FilePipeline(int threads, TokenizerKind tokenizerKind, boolean mapped, boolean reportProgress) {
+        this.threads = threads;
+        this.tokenizerKind = tokenizerKind;
+        this.mapped = mapped;
+        this.reportProgress = reportProgress;
+    }
+
+    public WordCountTable count(List<Path> files) {
+        Queue<List<Path>> batches = new ConcurrentLinkedQueue<>(batch(files));
+        PipelineProgress progress = new PipelineProgress(files.size());
+        ExecutorService readers = Executors.newFixedThreadPool(threads);
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        if (reportProgress) {
+            reporter.scheduleAtFixedRate(() -> System.err.println(progress.report()),
+                    REPORT_INTERVAL_SECONDS, REPORT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        }
+
+        try {
+            List<Future<WordCountTable>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(readers.submit(() -> countBatches(batches, progress)));
+            }
+
+            WordCountTable merged = new WordCountTable();
+            for (Future<WordCountTable> worker : workers) {
+                merged = WordData.mergeInto(merged, worker.get());
+            }
+            return merged;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("File pipeline was interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("File pipeline failed: " + e.getCause().getLocalizedMessage(), e.getCause());
+        } finally {
+            readers.shutdownNow();
+            reporter.shutdownNow();
+            System.err.println(progress.report());
+        }
+    }
+
+    private WordCountTable countBatches(Queue<List<Path>> batches, PipelineProgress progress) {
+        WordCountTable table = new WordCountTable();
+        long[] fileWords = new long[1];
+        Tokenizer words = tokenizerKind.create((word, length) -> {
+            table.add(word, 0, length, 1);
+            fileWords[0]++;
+        });
+        BlockTokenizer tokenizer = new BlockTokenizer(words);
+
+        List<Path> batch;
+        while ((batch = batches.poll()) != null) {
+            for (Path file : batch) {
+                fileWords[0] = 0;
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    if (GzipInput.isGzip(file)) {
+                        GzipInput.tokenize(file, words);
+                    } else if (mapped) {
+                        WordData.tokenizeMapped(channel, new FileChunk(0, channel.size()), words);
+                    } else {
+                        tokenizer.tokenize(channel);
+                    }
+                    progress.fileDone(channel.size(), fileWords[0]);
+                } catch (IOException e) {
+                    System.err.println("Unable to read from file: " + e.getLocalizedMessage());
+                }
+            }
+        }
+        return table;
+    }
+
+    static List<List<Path>> batch(List<Path> files) {
+        List<List<Path>> batches = new ArrayList<>();
+        List<Path> current = new ArrayList<>();
+        long currentBytes = 0;
+
+        for (Path file : files) {
+            current.add(file);
+            currentBytes += sizeOf(file);
+            if (currentBytes >= BATCH_BYTES || current.size() >= BATCH_FILES) {
+                batches.add(current);
+                current = new ArrayList<>();
+                currentBytes = 0;
+            }
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
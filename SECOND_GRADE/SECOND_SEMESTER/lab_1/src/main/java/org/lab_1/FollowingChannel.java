@@ -0,0 +1,48 @@
+package org.lab_1;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class FollowingChannel implements ReadableByteChannel {
+    private static final long POLL_MILLIS = 200;
+
+    private final FileChannel channel;
+
+    public FollowingChannel(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        channel.position(channel.size());
+    }
+
+    @Override
+    public int read(ByteBuffer target) throws IOException {
+        int read = channel.read(target);
+        if (read > 0) {
+            return read;
+        }
+        if (channel.size() < channel.position()) {
+            channel.position(0);
+            return 0;
+        }
+        try {
+            Thread.sleep(POLL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+        return 0;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
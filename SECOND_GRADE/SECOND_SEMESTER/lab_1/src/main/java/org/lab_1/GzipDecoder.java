@@ -0,0 +1,168 @@
+package org.lab_1;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+public class GzipDecoder {
+    public static final int HEADER_SIZE = 10;
+
+    private static final int INPUT_SIZE = 1 << 16;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer input = ByteBuffer.allocateDirect(INPUT_SIZE);
+    private final byte[] header = new byte[HEADER_SIZE];
+    private final Inflater inflater = new Inflater(true);
+    private final CRC32 crc = new CRC32();
+    private long inputStart;
+    private byte[] output;
+    private int outputLength;
+
+    public GzipDecoder(FileChannel channel, byte[] output) {
+        this.channel = channel;
+        this.output = output;
+        input.limit(0);
+    }
+
+    public static boolean isHeader(byte[] bytes, int offset) {
+        int os = bytes[offset + 9] & 0xFF;
+        int extraFlags = bytes[offset + 8];
+        return bytes[offset] == 0x1f && bytes[offset + 1] == (byte) 0x8b && bytes[offset + 2] == 8
+                && (bytes[offset + 3] & 0xE0) == 0
+                && (extraFlags == 0 || extraFlags == 2 || extraFlags == 4)
+                && (os <= 13 || os == 255);
+    }
+
+    public long decode(long from, long until, BlockSink sink) throws IOException {
+        seek(from);
+        try {
+            do {
+                member(sink);
+            } while (position() < until && headerFollows());
+        } finally {
+            inflater.end();
+        }
+        if (outputLength > 0) {
+            output = sink.accept(output, outputLength);
+            outputLength = 0;
+        }
+        return position();
+    }
+
+    private void member(BlockSink sink) throws IOException {
+        readHeader();
+        inflater.reset();
+        crc.reset();
+        while (!inflater.finished()) {
+            if (inflater.needsInput()) {
+                if (!input.hasRemaining() && !refill()) {
+                    throw new EOFException("Unexpected end of gzip member at " + position());
+                }
+                inflater.setInput(input);
+            }
+            int inflated;
+            try {
+                inflated = inflater.inflate(output, outputLength, output.length - outputLength);
+            } catch (DataFormatException e) {
+                throw new ZipException("Corrupt gzip member at " + position() + ": " + e.getLocalizedMessage());
+            }
+            if (inflated == 0 && inflater.needsDictionary()) {
+                throw new ZipException("Gzip member at " + position() + " needs a preset dictionary");
+            }
+            crc.update(output, outputLength, inflated);
+            outputLength += inflated;
+            if (outputLength == output.length) {
+                output = sink.accept(output, outputLength);
+                outputLength = 0;
+            }
+        }
+
+        long expectedCrc = readIntLE();
+        long expectedSize = readIntLE();
+        if (crc.getValue() != expectedCrc || (inflater.getBytesWritten() & 0xFFFFFFFFL) != expectedSize) {
+            throw new ZipException("Corrupt gzip trailer before " + position());
+        }
+    }
+
+    private void readHeader() throws IOException {
+        for (int i = 0; i < HEADER_SIZE; i++) {
+            header[i] = (byte) readByte();
+        }
+        if (header[0] != 0x1f || header[1] != (byte) 0x8b) {
+            throw new ZipException("Not in GZIP format at " + (position() - HEADER_SIZE));
+        }
+        if (header[2] != 8) {
+            throw new ZipException("Unsupported gzip compression method " + header[2]);
+        }
+        int flags = header[3];
+        if ((flags & FEXTRA) != 0) {
+            int length = readByte() | readByte() << 8;
+            for (int i = 0; i < length; i++) {
+                readByte();
+            }
+        }
+        if ((flags & FNAME) != 0) {
+            while (readByte() != 0) {
+            }
+        }
+        if ((flags & FCOMMENT) != 0) {
+            while (readByte() != 0) {
+            }
+        }
+        if ((flags & FHCRC) != 0) {
+            readByte();
+            readByte();
+        }
+    }
+
+    private boolean headerFollows() throws IOException {
+        long position = position();
+        int read = 0;
+        while (read < HEADER_SIZE && (input.hasRemaining() || refill())) {
+            header[read++] = input.get();
+        }
+        seek(position);
+        return read == HEADER_SIZE && isHeader(header, 0);
+    }
+
+    private long readIntLE() throws IOException {
+        return readByte() | readByte() << 8 | readByte() << 16 | (long) readByte() << 24;
+    }
+
+    private int readByte() throws IOException {
+        if (!input.hasRemaining() && !refill()) {
+            throw new EOFException("Unexpected end of gzip member at " + position());
+        }
+        return input.get() & 0xFF;
+    }
+
+    private long position() {
+        return inputStart + input.position();
+    }
+
+    private void seek(long position) {
+        if (position >= inputStart && position <= inputStart + input.limit()) {
+            input.position((int) (position - inputStart));
+            return;
+        }
+        inputStart = position;
+        input.clear().flip();
+    }
+
+    private boolean refill() throws IOException {
+        inputStart += input.limit();
+        input.clear();
+        int read = channel.read(input, inputStart);
+        input.flip();
+        return read > 0;
+    }
+}
@@ -0,0 +1,196 @@
+package org.lab_1;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+public class GzipInput {
+    private static final int BLOCK_SIZE = 1 << 16;
+    private static final int QUEUE_BLOCKS = 16;
+    private static final int RANGES_PER_THREAD = 4;
+    private static final int PROBE_SIZE = 1 << 16;
+    private static final long MAX_PROBE_BYTES = 4L << 20;
+    private static final byte[] SEPARATOR = {' '};
+
+    private record Block(byte[] bytes, int length) {}
+
+    private record RangeCount(long end, WordCountTable table, byte[] head, byte[] tail, boolean hasBoundary) {}
+
+    public static boolean isGzip(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(2);
+            channel.read(magic, 0);
+            return magic.position() == 2 && magic.get(0) == 0x1f && magic.get(1) == (byte) 0x8b;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public static void tokenize(Path file, Tokenizer tokenizer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            tokenize(channel, tokenizer);
+        }
+    }
+
+    public static WordCountTable count(Path file, int threads, TokenizerKind tokenizerKind) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WordCountTable boundaryTable = new WordCountTable();
+            Tokenizer boundaryWords = tokenizerKind.create((word, length) -> boundaryTable.add(word, 0, length, 1));
+            List<Long> starts = memberStarts(channel, threads * RANGES_PER_THREAD);
+            if (starts.size() == 1) {
+                tokenize(channel, boundaryWords);
+                return boundaryTable;
+            }
+
+            WordCountTable merged = new WordCountTable();
+            ExecutorService workers = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<RangeCount>> counts = new ArrayList<>();
+                for (int i = 0; i < starts.size(); i++) {
+                    long start = starts.get(i);
+                    long end = i + 1 < starts.size() ? starts.get(i + 1) : channel.size();
+                    counts.add(workers.submit(() -> countRange(channel, start, end, tokenizerKind)));
+                }
+
+                long expected = 0;
+                for (int i = 0; i < starts.size(); i++) {
+                    long end = i + 1 < starts.size() ? starts.get(i + 1) : channel.size();
+                    if (expected >= end) {
+                        continue;
+                    }
+                    RangeCount range = starts.get(i) == expected
+                            ? result(counts.get(i)) : countRange(channel, expected, end, tokenizerKind);
+                    merged = WordData.mergeInto(merged, range.table());
+                    boundaryWords.feed(range.head(), 0, range.head().length);
+                    if (range.hasBoundary()) {
+                        boundaryWords.feed(SEPARATOR, 0, 1);
+                        boundaryWords.feed(range.tail(), 0, range.tail().length);
+                    }
+                    expected = range.end();
+                    if (expected < end) {
+                        break;
+                    }
+                }
+            } finally {
+                workers.shutdownNow();
+            }
+            boundaryWords.finish();
+            return WordData.mergeInto(merged, boundaryTable);
+        }
+    }
+
+    private static RangeCount countRange(FileChannel channel, long start, long end, TokenizerKind tokenizerKind) throws IOException {
+        WordCountTable table = new WordCountTable();
+        RangeTokenizer range = new RangeTokenizer(tokenizerKind.create((word, length) -> table.add(word, 0, length, 1)), start == 0);
+        long decodedEnd = new GzipDecoder(channel, new byte[BLOCK_SIZE]).decode(start, end, range);
+        range.finish();
+        return new RangeCount(decodedEnd, table, range.head(), range.tail(), range.hasBoundary());
+    }
+
+    private static RangeCount result(Future<RangeCount> count) throws IOException {
+        try {
+            return count.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Gzip decoding was interrupted.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Gzip decoding failed: " + e.getCause().getLocalizedMessage(), e.getCause());
+        }
+    }
+
+    private static void tokenize(FileChannel channel, Tokenizer tokenizer) throws IOException {
+        BlockingQueue<byte[]> free = new ArrayBlockingQueue<>(QUEUE_BLOCKS);
+        BlockingQueue<Block> decoded = new ArrayBlockingQueue<>(QUEUE_BLOCKS + 1);
+        for (int i = 1; i < QUEUE_BLOCKS; i++) {
+            free.add(new byte[BLOCK_SIZE]);
+        }
+        Exception[] failure = new Exception[1];
+        Thread decoder = new Thread(() -> {
+            try {
+                new GzipDecoder(channel, new byte[BLOCK_SIZE]).decode(0, Long.MAX_VALUE, (block, length) -> {
+                    try {
+                        decoded.put(new Block(block, length));
+                        return free.take();
+                    } catch (InterruptedException e) {
+                        throw new InterruptedIOException("Gzip decoding was interrupted.");
+                    }
+                });
+            } catch (IOException | RuntimeException e) {
+                failure[0] = e;
+            } finally {
+                decoded.add(new Block(null, -1));
+            }
+        }, "gzip-decoder");
+        decoder.setDaemon(true);
+        decoder.start();
+
+        try {
+            Block block;
+            while ((block = decoded.take()).length() >= 0) {
+                tokenizer.feed(block.bytes(), 0, block.length());
+                free.add(block.bytes());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Gzip decoding was interrupted.");
+        } finally {
+            decoder.interrupt();
+            tokenizer.finish();
+        }
+        if (failure[0] instanceof IOException e) {
+            throw e;
+        }
+        if (failure[0] instanceof RuntimeException e) {
+            throw e;
+        }
+    }
+
+    static List<Long> memberStarts(FileChannel channel, int rangeCount) throws IOException {
+        long size = channel.size();
+        List<Long> starts = new ArrayList<>(List.of(0L));
+        ByteBuffer probe = ByteBuffer.allocate(PROBE_SIZE);
+        long position = 1;
+
+        for (int i = 1; i < rangeCount && position < size; i++) {
+            position = Math.max(position, size * i / rangeCount);
+            long limit = Math.min(size, position + MAX_PROBE_BYTES);
+            long start = nextHeader(channel, probe, position, limit);
+            if (start < 0) {
+                if (starts.size() == 1) {
+                    break;
+                }
+                position = limit;
+                continue;
+            }
+            starts.add(start);
+            position = start + 1;
+        }
+        return starts;
+    }
+
+    private static long nextHeader(FileChannel channel, ByteBuffer probe, long position, long limit) throws IOException {
+        while (position + GzipDecoder.HEADER_SIZE <= limit) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            for (int i = 0; i + GzipDecoder.HEADER_SIZE <= read; i++) {
+                if (GzipDecoder.isHeader(probe.array(), i)) {
+                    return position + i;
+                }
+            }
+            if (read < GzipDecoder.HEADER_SIZE) {
+                break;
+            }
+            position += read - GzipDecoder.HEADER_SIZE + 1;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,44 @@
+package org.lab_1;
+
+public class IdSort {
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    public static void sort(int[] ids, IntComparator comparator) {
+        int[] buffer = ids.clone();
+        mergeSort(buffer, ids, 0, ids.length, comparator);
+    }
+
+    private static void mergeSort(int[] source, int[] target, int from, int to, IntComparator comparator) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(target, from, to, comparator);
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        mergeSort(target, source, from, middle, comparator);
+        mergeSort(target, source, middle, to, comparator);
+
+        if (comparator.compare(source[middle - 1], source[middle]) <= 0) {
+            System.arraycopy(source, from, target, from, to - from);
+            return;
+        }
+        for (int i = from, left = from, right = middle; i < to; i++) {
+            if (right >= to || left < middle && comparator.compare(source[left], source[right]) <= 0) {
+                target[i] = source[left++];
+            } else {
+                target[i] = source[right++];
+            }
+        }
+    }
+
+    private static void insertionSort(int[] ids, int from, int to, IntComparator comparator) {
+        for (int i = from + 1; i < to; i++) {
+            int id = ids[i];
+            int j = i - 1;
+            while (j >= from && comparator.compare(ids[j], id) > 0) {
+                ids[j + 1] = ids[j];
+                j--;
+            }
+            ids[j + 1] = id;
+        }
+    }
+}
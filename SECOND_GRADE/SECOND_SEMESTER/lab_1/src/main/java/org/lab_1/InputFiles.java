@@ -0,0 +1,54 @@
+package org.lab_1;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+public class InputFiles {
+    private static final String GLOB_CHARACTERS = "*?[{";
+
+    public static boolean isPattern(String input) {
+        return hasGlob(input) || Files.isDirectory(Path.of(input));
+    }
+
+    public static List<Path> resolve(String input) throws IOException {
+        Path path = Path.of(input);
+        if (Files.isDirectory(path)) {
+            return walk(path, file -> true);
+        }
+        if (!hasGlob(input)) {
+            return List.of(path);
+        }
+
+        Path base = path.getRoot() != null ? path.getRoot() : Path.of("");
+        for (Path part : path) {
+            if (hasGlob(part.toString())) {
+                break;
+            }
+            base = base.resolve(part);
+        }
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + input);
+        return walk(base, matcher::matches);
+    }
+
+    private static boolean hasGlob(String input) {
+        return input.chars().anyMatch(ch -> GLOB_CHARACTERS.indexOf(ch) >= 0);
+    }
+
+    private static List<Path> walk(Path root, Predicate<Path> filter) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(root)) {
+            List<Path> matched = new ArrayList<>();
+            files.filter(Files::isRegularFile).filter(filter).sorted().forEach(matched::add);
+            return matched;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package org.lab_1;
+
+@FunctionalInterface
+public interface IntComparator {
+    int compare(int a, int b);
+}
@@ -0,0 +1,93 @@
+package org.lab_1;
+
+import java.util.Arrays;
+
+public class LongCountTable {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private int[] slots = new int[INITIAL_CAPACITY];
+    private int mask = INITIAL_CAPACITY - 1;
+
+    private long[] keys = new long[INITIAL_CAPACITY / 2];
+    private int[] counts = new int[INITIAL_CAPACITY / 2];
+
+    private int size;
+    private long totalCount;
+
+    public int size() { return size; }
+    public long totalCount() { return totalCount; }
+    public long key(int id) { return keys[id]; }
+    public int count(int id) { return counts[id]; }
+
+    public static long pack(int prefix, int last) {
+        return (long) prefix << 32 | (last & 0xFFFFFFFFL);
+    }
+
+    public static int prefixOf(long key) { return (int) (key >>> 32); }
+    public static int lastOf(long key) { return (int) key; }
+
+    public int add(long key, int delta) {
+        int slot = hash(key) & mask;
+        int id;
+
+        while ((id = slots[slot] - 1) >= 0) {
+            if (keys[id] == key) {
+                counts[id] += delta;
+                totalCount += delta;
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            counts = Arrays.copyOf(counts, size * 2);
+        }
+        id = size++;
+        keys[id] = key;
+        counts[id] = delta;
+        totalCount += delta;
+        slots[slot] = id + 1;
+        if (size * 4 > slots.length * 3) {
+            rehash(slots.length * 2);
+        }
+        return id;
+    }
+
+    public int[] compact(int[] prefixRemap, int minCount) {
+        int[] remap = new int[size];
+        int kept = 0;
+        for (int id = 0; id < size; id++) {
+            long key = keys[id];
+            int prefix = prefixRemap == null ? prefixOf(key) : prefixRemap[prefixOf(key)];
+            if (prefix < 0 || counts[id] < minCount) {
+                remap[id] = -1;
+                totalCount -= counts[id];
+                continue;
+            }
+            keys[kept] = pack(prefix, lastOf(key));
+            counts[kept] = counts[id];
+            remap[id] = kept++;
+        }
+        size = kept;
+        rehash(slots.length);
+        return remap;
+    }
+
+    private void rehash(int capacity) {
+        slots = new int[capacity];
+        mask = capacity - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = hash(keys[id]) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id + 1;
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ h >>> 32);
+    }
+}
@@ -1,18 +1,166 @@
 package org.lab_1;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
 public class Main {
     public static void main(String[] args) {
-        if (args.length != 2) {
-            System.err.println("Usage: mvn exec:java -Dexec.args=\"input.txt output.csv\"  ");
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: mvn exec:java -Dexec.args=\"input... output.csv [--threads N] [--progress] [--mmap] [--top N] [--approx [--sketch-width W] [--sketch-depth D] [--epsilon E] [--delta D] [--heavy-hitters K]] [--snapshot index.bin] [--tokenizer ascii|unicode|nfc] [--ngrams N [--min-count C]] [--memory-budget SIZE [--spill-dir DIR]] [--index]\"\n"
+                    + "       mvn exec:java -Dexec.args=\"--stream input|- output.csv [--sliding 1m,5m,1h] [--tumbling 1m] [--emit-interval 10s] [--top N] [--tokenizer ascii|unicode|nfc]\"\n"
+                    + "       mvn exec:java -Dexec.args=\"--lookup output.idx word... [--top N]\"");
+            return;
+        }
+
+        if (options.isStreaming()) {
+            stream(options);
+            return;
+        }
+        if (options.isLookup()) {
+            lookup(options);
+            return;
+        }
+
+        List<Path> inputFiles = new ArrayList<>();
+        boolean multipleInputs = options.getInputFileNames().size() > 1;
+        try {
+            for (String input : options.getInputFileNames()) {
+                inputFiles.addAll(InputFiles.resolve(input));
+                multipleInputs |= InputFiles.isPattern(input);
+            }
+        } catch (IOException e) {
+            System.err.println("Unable to list input files: " + e.getLocalizedMessage());
             return;
         }
 
-        String inputFileName = args[0];
-        String outputFileName = args[1];
+        if (options.isIndexing() && (multipleInputs || inputFiles.size() != 1)) {
+            System.err.println("--index needs a single input file.");
+            return;
+        }
+
+        if (options.isApproximate()) {
+            ApproximateCounter counter = new ApproximateCounter(options.createSketch(), options.getHeavyHitters());
+            for (Path inputFile : inputFiles) {
+                WordData.readWords(inputFile.toString(), options.isMapped(), options.getTokenizerKind(), counter);
+            }
+            int limit = options.getTop() > 0 ? options.getTop() : options.getHeavyHitters();
+            CSVWriter.writeSortedToFile(options.getOutputFileName(), counter.getTopWords(limit), counter.describeErrorBound());
+            return;
+        }
+
+        if (options.getMemoryBudget() > 0) {
+            countWithSpilling(options, inputFiles);
+            return;
+        }
 
         WordData wordData = new WordData();
-        wordData.processFileData(inputFileName);
+        wordData.setTokenizerKind(options.getTokenizerKind());
+        if (options.isIndexing()) {
+            wordData.enablePositionIndex();
+        }
+        if (options.getNGramOrder() > 0) {
+            wordData.enableNGrams(options.getNGramOrder(), options.getMinCount());
+            for (Path inputFile : inputFiles) {
+                if (options.isMapped()) {
+                    wordData.processMappedFile(inputFile.toString());
+                } else {
+                    wordData.processFileData(inputFile.toString());
+                }
+            }
+        } else if (options.getSnapshotFileName() != null) {
+            if (new File(options.getSnapshotFileName()).isFile()) {
+                wordData.loadSnapshot(options.getSnapshotFileName(), options.isMapped());
+            }
+            for (Path inputFile : inputFiles) {
+                wordData.processFileIncrementally(inputFile.toString(), options.isMapped());
+            }
+            wordData.saveSnapshot(options.getSnapshotFileName());
+        } else if (multipleInputs) {
+            wordData.processFiles(inputFiles, options.getThreads(), options.isMapped(), options.isProgress());
+        } else if (options.getThreads() > 1) {
+            wordData.processFileDataParallel(inputFiles.get(0).toString(), options.getThreads(), options.isMapped());
+        } else if (options.isMapped()) {
+            wordData.processMappedFile(inputFiles.get(0).toString());
+        } else {
+            wordData.processFileData(inputFiles.get(0).toString());
+        }
+
+        if (options.getTop() > 0) {
+            CSVWriter.writeSortedToFile(options.getOutputFileName(), wordData.getTopWords(options.getTop()));
+        } else {
+            CSVWriter.writeToFile(options.getOutputFileName(), wordData.getWordsTable());
+        }
+
+        if (options.isIndexing()) {
+            wordData.savePositionIndex(siblingFileName(options.getOutputFileName(), ".idx"));
+        }
+
+        NGramCounter nGrams = wordData.getNGrams();
+        if (nGrams != null) {
+            nGrams.finish();
+            int limit = options.getTop() > 0 ? options.getTop() : Integer.MAX_VALUE;
+            for (int order = 2; order <= nGrams.maxOrder(); order++) {
+                CSVWriter.writeToFile(siblingFileName(options.getOutputFileName(), "." + order + "grams.csv"), nGrams, order, limit);
+            }
+        }
+    }
+
+    private static void countWithSpilling(Options options, List<Path> inputFiles) {
+        try (SpillingCounter counter = new SpillingCounter(options.getMemoryBudget(), Path.of(options.getSpillDirectory()))) {
+            for (Path inputFile : inputFiles) {
+                WordData.readWords(inputFile.toString(), options.isMapped(), options.getTokenizerKind(), counter);
+            }
+            counter.writeToFile(options.getOutputFileName(), options.getTop());
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Unable to spill word counts: " + e.getLocalizedMessage());
+        }
+    }
+
+    private static void stream(Options options) {
+        String input = options.getInputFileNames().get(0);
+        WindowedCounts windows = new WindowedCounts(options.getOutputFileName(), options.getTop(),
+                options.getSlidingWindows(), options.getTumblingWindows());
+        try (ReadableByteChannel source = input.equals("-")
+                ? Channels.newChannel(System.in) : new FollowingChannel(Path.of(input))) {
+            new StreamingCounter(windows, options.getEmitIntervalMillis(), options.getTokenizerKind()).run(source);
+        } catch (IOException e) {
+            System.err.println("Unable to read from input: " + e.getLocalizedMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-        CSVWriter.writeToFile(outputFileName, wordData.getWordsSet());
+    private static void lookup(Options options) {
+        List<String> arguments = options.getInputFileNames();
+        try (PositionIndex index = PositionIndex.open(Path.of(arguments.get(0)))) {
+            for (String word : arguments.subList(1, arguments.size())) {
+                long[] positions = index.positions(word);
+                int shown = options.getTop() > 0 ? Math.min(options.getTop(), positions.length) : positions.length;
+                StringBuilder line = new StringBuilder(word).append(": ").append(positions.length);
+                for (int i = 0; i < shown; i++) {
+                    line.append(i == 0 ? " at " : ", ").append(positions[i]);
+                }
+                System.out.println(line);
+            }
+        } catch (IOException e) {
+            System.err.println("Unable to read position index: " + e.getLocalizedMessage());
+        }
+    }
+
+    private static String siblingFileName(String outputFileName, String suffix) {
+        if (outputFileName.endsWith(".csv")) {
+            return outputFileName.substring(0, outputFileName.length() - 4) + suffix;
+        }
+        return outputFileName + suffix;
     }
-}
\ No newline at end of file
+}
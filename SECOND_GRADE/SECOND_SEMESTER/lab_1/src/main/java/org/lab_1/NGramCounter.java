@@ -0,0 +1,116 @@
+package org.lab_1;
+
+import java.util.Arrays;
+
+public class NGramCounter implements WordSink {
+    private static final int PRUNE_INTERVAL = 1 << 20;
+
+    private final WordCountTable words;
+    private final LongCountTable[] tables;
+    private final int[] lastIds;
+    private final int minCount;
+    private int wordsSincePrune;
+
+    public NGramCounter(WordCountTable words, int maxOrder, int minCount) {
+        if (maxOrder < 2) {
+            throw new IllegalArgumentException("N-gram order must be at least 2: " + maxOrder);
+        }
+        this.words = words;
+        this.tables = new LongCountTable[maxOrder + 1];
+        for (int order = 2; order <= maxOrder; order++) {
+            tables[order] = new LongCountTable();
+        }
+        this.lastIds = new int[maxOrder + 1];
+        this.minCount = minCount;
+        reset();
+    }
+
+    public int maxOrder() { return tables.length - 1; }
+    public LongCountTable table(int order) { return tables[order]; }
+    public WordCountTable words() { return words; }
+
+    @Override
+    public void accept(byte[] word, int length) {
+        int wordId = words.add(word, 0, length, 1);
+        for (int order = maxOrder(); order >= 2; order--) {
+            int prefix = lastIds[order - 1];
+            lastIds[order] = prefix < 0 ? -1 : tables[order].add(LongCountTable.pack(prefix, wordId), 1);
+        }
+        lastIds[1] = wordId;
+
+        if (minCount > 1 && ++wordsSincePrune == PRUNE_INTERVAL) {
+            prune();
+        }
+    }
+
+    public void reset() {
+        Arrays.fill(lastIds, -1);
+    }
+
+    public void finish() {
+        if (minCount > 1) {
+            prune();
+        }
+    }
+
+    public int wordIds(int order, int id, int[] target) {
+        for (int position = order - 1; position > 0; position--) {
+            long key = tables[position + 1].key(id);
+            target[position] = LongCountTable.lastOf(key);
+            id = LongCountTable.prefixOf(key);
+        }
+        target[0] = id;
+        return order;
+    }
+
+    public int compareByFrequency(int order, int a, int b, int[] scratchA, int[] scratchB) {
+        LongCountTable table = tables[order];
+        if (table.count(a) != table.count(b)) {
+            return table.count(a) > table.count(b) ? -1 : 1;
+        }
+        wordIds(order, a, scratchA);
+        wordIds(order, b, scratchB);
+        for (int position = 0; position < order; position++) {
+            int difference = compareWords(scratchA[position], scratchB[position]);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return 0;
+    }
+
+    public int[] idsByFrequency(int order, int limit) {
+        int[] scratchA = new int[order];
+        int[] scratchB = new int[order];
+        IntComparator byFrequency = (a, b) -> compareByFrequency(order, a, b, scratchA, scratchB);
+        int size = tables[order].size();
+
+        if (limit < size) {
+            TopKSelector selector = new TopKSelector(Math.max(1, limit), byFrequency);
+            for (int id = 0; id < size; id++) {
+                selector.offer(id);
+            }
+            return selector.sorted();
+        }
+        int[] ids = new int[size];
+        Arrays.setAll(ids, id -> id);
+        IdSort.sort(ids, byFrequency);
+        return ids;
+    }
+
+    private int compareWords(int a, int b) {
+        if (a == b) {
+            return 0;
+        }
+        return words.arena().compare(words.wordOffset(a), words.wordLength(a), words.wordOffset(b), words.wordLength(b));
+    }
+
+    private void prune() {
+        wordsSincePrune = 0;
+        int[] prefixRemap = null;
+        for (int order = 2; order <= maxOrder(); order++) {
+            prefixRemap = tables[order].compact(prefixRemap, minCount);
+            lastIds[order] = lastIds[order] < 0 ? -1 : prefixRemap[lastIds[order]];
+        }
+    }
+}
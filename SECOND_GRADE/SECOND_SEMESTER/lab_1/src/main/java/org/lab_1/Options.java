@@ -0,0 +1,232 @@
+package org.lab_1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class Options {
+    private static final int MAX_NGRAM_ORDER = 8;
+    private static final int DEFAULT_STREAM_TOP = 100;
+    private static final Pattern SIZE = Pattern.compile("(\\d{1,9})([kmg]?)");
+    private static final Pattern DURATION = Pattern.compile("(\\d{1,9})(ms|s|m|h)");
+
+    private final List<String> inputFileNames = new ArrayList<>();
+    private String outputFileName;
+    private int threads = 1;
+    private boolean mapped;
+    private int top;
+    private boolean approximate;
+    private int sketchWidth = 1 << 20;
+    private int sketchDepth = 5;
+    private double epsilon;
+    private double delta;
+    private int heavyHitters = 1000;
+    private String snapshotFileName;
+    private boolean progress;
+    private int nGramOrder;
+    private int minCount = 1;
+    private boolean streaming;
+    private final List<Long> slidingWindows = new ArrayList<>();
+    private final List<Long> tumblingWindows = new ArrayList<>();
+    private long emitIntervalMillis = 10_000;
+    private long memoryBudget;
+    private TokenizerKind tokenizerKind = TokenizerKind.UNICODE;
+    private boolean indexing;
+    private boolean lookup;
+    private String spillDirectory = System.getProperty("java.io.tmpdir");
+
+    public List<String> getInputFileNames() { return inputFileNames; }
+    public String getOutputFileName() { return outputFileName; }
+    public int getThreads() { return threads; }
+    public boolean isMapped() { return mapped; }
+    public int getTop() { return top; }
+    public boolean isApproximate() { return approximate; }
+    public int getHeavyHitters() { return heavyHitters; }
+    public String getSnapshotFileName() { return snapshotFileName; }
+    public boolean isProgress() { return progress; }
+    public int getNGramOrder() { return nGramOrder; }
+    public int getMinCount() { return minCount; }
+    public boolean isStreaming() { return streaming; }
+    public List<Long> getSlidingWindows() { return slidingWindows; }
+    public List<Long> getTumblingWindows() { return tumblingWindows; }
+    public long getEmitIntervalMillis() { return emitIntervalMillis; }
+    public long getMemoryBudget() { return memoryBudget; }
+    public TokenizerKind getTokenizerKind() { return tokenizerKind; }
+    public String getSpillDirectory() { return spillDirectory; }
+    public boolean isIndexing() { return indexing; }
+    public boolean isLookup() { return lookup; }
+
+    public int getSketchWidth() { return epsilon > 0 ? CountMinSketch.widthFor(epsilon) : sketchWidth; }
+    public int getSketchDepth() { return delta > 0 ? CountMinSketch.depthFor(delta) : sketchDepth; }
+
+    public CountMinSketch createSketch() {
+        return new CountMinSketch(getSketchWidth(), getSketchDepth());
+    }
+
+    public static Options parse(String[] args) {
+        Options options = new Options();
+        List<String> positional = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--threads" -> options.threads = parsePositive(args, ++i);
+                case "--mmap" -> options.mapped = true;
+                case "--top" -> options.top = parsePositive(args, ++i);
+                case "--approx" -> options.approximate = true;
+                case "--sketch-width" -> options.sketchWidth = parsePositive(args, ++i);
+                case "--sketch-depth" -> options.sketchDepth = parsePositive(args, ++i);
+                case "--epsilon" -> options.epsilon = parseFraction(args, ++i);
+                case "--delta" -> options.delta = parseFraction(args, ++i);
+                case "--heavy-hitters" -> options.heavyHitters = parsePositive(args, ++i);
+                case "--snapshot" -> options.snapshotFileName = parseValue(args, ++i);
+                case "--progress" -> options.progress = true;
+                case "--ngrams" -> options.nGramOrder = parsePositive(args, ++i);
+                case "--min-count" -> options.minCount = parsePositive(args, ++i);
+                case "--stream" -> options.streaming = true;
+                case "--sliding" -> options.slidingWindows.addAll(parseDurations(args, ++i));
+                case "--tumbling" -> options.tumblingWindows.addAll(parseDurations(args, ++i));
+                case "--emit-interval" -> options.emitIntervalMillis = parseDurations(args, ++i).get(0);
+                case "--memory-budget" -> options.memoryBudget = parseSize(args, ++i);
+                case "--spill-dir" -> options.spillDirectory = parseValue(args, ++i);
+                case "--index" -> options.indexing = true;
+                case "--lookup" -> options.lookup = true;
+                case "--tokenizer" -> options.tokenizerKind = TokenizerKind.parse(parseValue(args, ++i));
+                default -> {
+                    if (args[i].startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                    }
+                    positional.add(args[i]);
+                }
+            }
+        }
+
+        if (options.streaming) {
+            validateStreaming(options, positional);
+            return options;
+        }
+        if (options.lookup) {
+            if (positional.size() < 2) {
+                throw new IllegalArgumentException("--lookup needs an index file and at least one word.");
+            }
+            options.inputFileNames.addAll(positional);
+            return options;
+        }
+        if (positional.size() < 2) {
+            throw new IllegalArgumentException("Input and output file names are required.");
+        }
+        options.inputFileNames.addAll(positional.subList(0, positional.size() - 1));
+        options.outputFileName = positional.get(positional.size() - 1);
+        if (options.approximate && options.threads > 1) {
+            throw new IllegalArgumentException("--approx counts on a single thread and cannot be combined with --threads.");
+        }
+        if (options.approximate) {
+            CountMinSketch.cellCount(options.getSketchWidth(), options.getSketchDepth());
+        }
+        if (options.snapshotFileName != null && (options.approximate || options.threads > 1)) {
+            throw new IllegalArgumentException("--snapshot cannot be combined with --approx or --threads.");
+        }
+        if (options.nGramOrder == 1 || options.nGramOrder > MAX_NGRAM_ORDER) {
+            throw new IllegalArgumentException("--ngrams must be between 2 and " + MAX_NGRAM_ORDER + ".");
+        }
+        if (options.nGramOrder > 0 && (options.approximate || options.threads > 1 || options.snapshotFileName != null)) {
+            throw new IllegalArgumentException("--ngrams cannot be combined with --approx, --threads or --snapshot.");
+        }
+        if (options.memoryBudget > 0 && (options.approximate || options.threads > 1
+                || options.snapshotFileName != null || options.nGramOrder > 0)) {
+            throw new IllegalArgumentException("--memory-budget cannot be combined with --approx, --threads, --snapshot or --ngrams.");
+        }
+        if (options.indexing && (options.inputFileNames.size() > 1 || options.approximate || options.threads > 1
+                || options.snapshotFileName != null || options.nGramOrder > 0 || options.memoryBudget > 0)) {
+            throw new IllegalArgumentException("--index reads a single input and cannot be combined with --approx, --threads, --snapshot, --ngrams or --memory-budget.");
+        }
+        if (options.minCount > 1 && options.nGramOrder == 0) {
+            throw new IllegalArgumentException("--min-count only applies to --ngrams.");
+        }
+        return options;
+    }
+
+    private static void validateStreaming(Options options, List<String> positional) {
+        if (positional.size() != 2) {
+            throw new IllegalArgumentException("--stream reads one input, '-' for stdin or a file to follow, and needs an output file name.");
+        }
+        if (options.threads > 1 || options.mapped || options.approximate || options.snapshotFileName != null
+                || options.nGramOrder > 0 || options.memoryBudget > 0 || options.indexing) {
+            throw new IllegalArgumentException("--stream cannot be combined with --threads, --mmap, --approx, --snapshot, --ngrams, --memory-budget or --index.");
+        }
+        options.inputFileNames.add(positional.get(0));
+        options.outputFileName = positional.get(1);
+        if (options.slidingWindows.isEmpty() && options.tumblingWindows.isEmpty()) {
+            options.slidingWindows.addAll(List.of(60_000L, 300_000L, 3_600_000L));
+        }
+        if (options.top == 0) {
+            options.top = DEFAULT_STREAM_TOP;
+        }
+    }
+
+    private static List<Long> parseDurations(String[] args, int index) {
+        List<Long> durations = new ArrayList<>();
+        for (String value : parseValue(args, index).split(",")) {
+            Matcher matcher = DURATION.matcher(value.trim());
+            if (!matcher.matches() || Long.parseLong(matcher.group(1)) == 0) {
+                throw new IllegalArgumentException(args[index - 1] + " expects durations such as 30s, 5m or 1h, got '" + value + "'.");
+            }
+            long unitMillis = switch (matcher.group(2)) {
+                case "ms" -> 1;
+                case "s" -> 1000;
+                case "m" -> 60_000;
+                default -> 3_600_000;
+            };
+            durations.add(Long.parseLong(matcher.group(1)) * unitMillis);
+        }
+        return durations;
+    }
+
+    private static long parseSize(String[] args, int index) {
+        String value = parseValue(args, index);
+        Matcher matcher = SIZE.matcher(value.toLowerCase());
+        if (!matcher.matches() || Long.parseLong(matcher.group(1)) == 0) {
+            throw new IllegalArgumentException(args[index - 1] + " expects a size such as 512k, 64m or 2g, got '" + value + "'.");
+        }
+        int shift = switch (matcher.group(2)) {
+            case "k" -> 10;
+            case "m" -> 20;
+            case "g" -> 30;
+            default -> 0;
+        };
+        return Long.parseLong(matcher.group(1)) << shift;
+    }
+
+    private static String parseValue(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[index - 1]);
+        }
+        return args[index];
+    }
+
+    private static int parsePositive(String[] args, int index) {
+        String value = parseValue(args, index);
+        try {
+            int number = Integer.parseInt(value);
+            if (number <= 0) {
+                throw new IllegalArgumentException(args[index - 1] + " must be positive.");
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(args[index - 1] + " expects a number, got '" + value + "'.");
+        }
+    }
+
+    private static double parseFraction(String[] args, int index) {
+        String value = parseValue(args, index);
+        try {
+            double number = Double.parseDouble(value);
+            if (!(number > 0 && number < 1)) {
+                throw new IllegalArgumentException(args[index - 1] + " must be between 0 and 1.");
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(args[index - 1] + " expects a number, got '" + value + "'.");
+        }
+    }
+}
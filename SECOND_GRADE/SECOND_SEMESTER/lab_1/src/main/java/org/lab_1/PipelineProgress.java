@@ -0,0 +1,33 @@
+package org.lab_1;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+public class PipelineProgress {
+    private final long startNanos = System.nanoTime();
+    private final int totalFiles;
+    private final LongAdder files = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder words = new LongAdder();
+
+    public PipelineProgress(int totalFiles) {
+        this.totalFiles = totalFiles;
+    }
+
+    public void fileDone(long fileBytes, long fileWords) {
+        files.increment();
+        bytes.add(fileBytes);
+        words.add(fileWords);
+    }
+
+    public String report() {
+        double seconds = Math.max(1e-9, (System.nanoTime() - startNanos) / 1e9);
+        long doneFiles = files.sum();
+        long doneBytes = bytes.sum();
+        long doneWords = words.sum();
+        return String.format(Locale.ROOT,
+                "%d/%d files, %.1f MB, %d words in %.1f s: %.1f files/s, %.1f MB/s, %.0f words/s",
+                doneFiles, totalFiles, doneBytes / 1e6, doneWords, seconds,
+                doneFiles / seconds, doneBytes / 1e6 / seconds, doneWords / seconds);
+    }
+}
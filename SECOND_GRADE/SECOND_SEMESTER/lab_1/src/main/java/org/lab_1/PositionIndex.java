@@ -0,0 +1,162 @@
+package org.lab_1;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+public class PositionIndex implements Closeable {
+    static final int MAGIC = 0x57504931;
+    static final int HEADER_SIZE = 32;
+    static final int ENTRY_SIZE = 16;
+
+    private static final int SEGMENT_SHIFT = 30;
+    private static final int SEGMENT_OVERLAP = 8;
+    private static final long[] NO_POSITIONS = new long[0];
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final TokenizerKind tokenizerKind;
+    private final int size;
+    private final long wordsOffset;
+    private final long postingsOffset;
+
+    private PositionIndex(FileChannel channel) throws IOException {
+        this.channel = channel;
+        long fileSize = channel.size();
+        segments = new MappedByteBuffer[(int) ((fileSize >>> SEGMENT_SHIFT) + 1)];
+        for (int i = 0; i < segments.length; i++) {
+            long start = (long) i << SEGMENT_SHIFT;
+            long length = Math.min(fileSize - start, (1L << SEGMENT_SHIFT) + SEGMENT_OVERLAP);
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        }
+        if (fileSize < HEADER_SIZE || getInt(0) != MAGIC) {
+            throw new IOException("Not a position index.");
+        }
+        int kind = getInt(4);
+        size = getInt(8);
+        wordsOffset = getLong(16);
+        postingsOffset = getLong(24);
+        if (kind < 0 || kind >= TokenizerKind.values().length || size < 0
+                || wordsOffset < HEADER_SIZE + (size + 1L) * ENTRY_SIZE
+                || postingsOffset < wordsOffset || postingsOffset > fileSize) {
+            throw new IOException("Not a position index.");
+        }
+        tokenizerKind = TokenizerKind.values()[kind];
+    }
+
+    public static PositionIndex open(Path indexFile) throws IOException {
+        FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ);
+        try {
+            return new PositionIndex(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int size() { return size; }
+    public TokenizerKind tokenizerKind() { return tokenizerKind; }
+
+    public int count(String word) {
+        int entry = find(word);
+        return entry < 0 ? 0 : getInt(entryOffset(entry) + 4);
+    }
+
+    public long[] positions(String word) {
+        int entry = find(word);
+        if (entry < 0) {
+            return NO_POSITIONS;
+        }
+        long[] positions = new long[getInt(entryOffset(entry) + 4)];
+        long address = postingsOffset + getLong(entryOffset(entry) + 8);
+        long position = 0;
+        for (int i = 0; i < positions.length; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = getByte(address++);
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            position += delta;
+            positions[i] = position;
+        }
+        return positions;
+    }
+
+    public int find(String word) {
+        int exact = find(word.getBytes(StandardCharsets.UTF_8));
+        if (exact >= 0) {
+            return exact;
+        }
+        byte[][] normalized = new byte[1][];
+        Tokenizer tokenizer = tokenizerKind.create((bytes, length) -> {
+            if (normalized[0] == null) {
+                normalized[0] = Arrays.copyOf(bytes, length);
+            }
+        });
+        byte[] text = word.getBytes(StandardCharsets.UTF_8);
+        tokenizer.feed(text, 0, text.length);
+        tokenizer.finish();
+        return normalized[0] == null ? -1 : find(normalized[0]);
+    }
+
+    public int find(byte[] word) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compare(middle, word);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int compare(int entry, byte[] word) {
+        long offset = entryOffset(entry);
+        int start = getInt(offset);
+        int length = getInt(offset + ENTRY_SIZE) - start;
+        long address = wordsOffset + start;
+        int common = Math.min(length, word.length);
+        for (int i = 0; i < common; i++) {
+            int difference = (getByte(address + i) & 0xFF) - (word[i] & 0xFF);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return length - word.length;
+    }
+
+    private static long entryOffset(int entry) {
+        return HEADER_SIZE + (long) entry * ENTRY_SIZE;
+    }
+
+    private byte getByte(long address) {
+        return segments[(int) (address >>> SEGMENT_SHIFT)].get((int) (address & ((1L << SEGMENT_SHIFT) - 1)));
+    }
+
+    private int getInt(long address) {
+        return segments[(int) (address >>> SEGMENT_SHIFT)].getInt((int) (address & ((1L << SEGMENT_SHIFT) - 1)));
+    }
+
+    private long getLong(long address) {
+        return segments[(int) (address >>> SEGMENT_SHIFT)].getLong((int) (address & ((1L << SEGMENT_SHIFT) - 1)));
+    }
+}
@@ -0,0 +1,164 @@
+package org.lab_1;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+public class PositionIndexBuilder {
+    private static final int PAGE_SHIFT = 20;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int UNIT_SHIFT = 4;
+    private static final int FIRST_SLICE_SHIFT = 4;
+    private static final int MAX_SLICE_SHIFT = 12;
+    private static final int POINTER_SIZE = 4;
+
+    private byte[][] pages = new byte[16][];
+    private long used;
+
+    private int[] firstSlice = new int[1024];
+    private int[] currentSlice = new int[1024];
+    private byte[] sliceShift = new byte[1024];
+    private int[] sliceFill = new int[1024];
+    private long[] lastPosition = new long[1024];
+    private long[] postingBytes = new long[1024];
+    private int words;
+
+    public void add(int id, long position) {
+        if (id >= words) {
+            addWord(id);
+        }
+        long delta = position - lastPosition[id];
+        lastPosition[id] = position;
+        while ((delta & ~0x7FL) != 0) {
+            put(id, (byte) ((delta & 0x7F) | 0x80));
+            delta >>>= 7;
+        }
+        put(id, (byte) delta);
+    }
+
+    public void write(String indexFileName, WordCountTable table, TokenizerKind tokenizerKind) throws IOException {
+        int[] sortedIds = table.idsByWord();
+        long entriesEnd = PositionIndex.HEADER_SIZE + (long) (sortedIds.length + 1) * PositionIndex.ENTRY_SIZE;
+        long wordBytes = table.arena().used();
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFileName), 1 << 16))) {
+            output.writeInt(PositionIndex.MAGIC);
+            output.writeInt(tokenizerKind.ordinal());
+            output.writeInt(sortedIds.length);
+            output.writeInt(0);
+            output.writeLong(entriesEnd);
+            output.writeLong(entriesEnd + wordBytes);
+
+            int wordStart = 0;
+            long postingsStart = 0;
+            for (int id : sortedIds) {
+                output.writeInt(wordStart);
+                output.writeInt(table.count(id));
+                output.writeLong(postingsStart);
+                wordStart += table.wordLength(id);
+                postingsStart += id < words ? postingBytes[id] : 0;
+            }
+            output.writeInt(wordStart);
+            output.writeInt(0);
+            output.writeLong(postingsStart);
+
+            for (int id : sortedIds) {
+                int length = table.wordLength(id);
+                output.write(table.arena().read(table.wordOffset(id), length), 0, length);
+            }
+            for (int id : sortedIds) {
+                if (id < words) {
+                    writePostings(output, id);
+                }
+            }
+        }
+    }
+
+    private void writePostings(DataOutputStream output, int id) throws IOException {
+        long remaining = postingBytes[id];
+        long slice = (long) firstSlice[id] << UNIT_SHIFT;
+        int shift = FIRST_SLICE_SHIFT;
+        while (remaining > 0) {
+            int payload = (1 << shift) - POINTER_SIZE;
+            int length = (int) Math.min(payload, remaining);
+            output.write(pages[(int) (slice >>> PAGE_SHIFT)], (int) (slice & (PAGE_SIZE - 1)), length);
+            remaining -= length;
+            slice = (long) readPointer(slice + payload) << UNIT_SHIFT;
+            shift = Math.min(shift + 1, MAX_SLICE_SHIFT);
+        }
+    }
+
+    private void addWord(int id) {
+        if (id >= firstSlice.length) {
+            int capacity = Math.max(firstSlice.length * 2, id + 1);
+            firstSlice = Arrays.copyOf(firstSlice, capacity);
+            currentSlice = Arrays.copyOf(currentSlice, capacity);
+            sliceShift = Arrays.copyOf(sliceShift, capacity);
+            sliceFill = Arrays.copyOf(sliceFill, capacity);
+            lastPosition = Arrays.copyOf(lastPosition, capacity);
+            postingBytes = Arrays.copyOf(postingBytes, capacity);
+        }
+        for (int next = words; next <= id; next++) {
+            int slice = allocate(FIRST_SLICE_SHIFT);
+            firstSlice[next] = slice;
+            currentSlice[next] = slice;
+            sliceShift[next] = FIRST_SLICE_SHIFT;
+            sliceFill[next] = 0;
+            lastPosition[next] = 0;
+            postingBytes[next] = 0;
+        }
+        words = id + 1;
+    }
+
+    private void put(int id, byte b) {
+        int payload = (1 << sliceShift[id]) - POINTER_SIZE;
+        long slice = (long) currentSlice[id] << UNIT_SHIFT;
+        if (sliceFill[id] == payload) {
+            int shift = Math.min(sliceShift[id] + 1, MAX_SLICE_SHIFT);
+            int next = allocate(shift);
+            writePointer(slice + payload, next);
+            currentSlice[id] = next;
+            sliceShift[id] = (byte) shift;
+            sliceFill[id] = 0;
+            slice = (long) next << UNIT_SHIFT;
+        }
+        long address = slice + sliceFill[id]++;
+        pages[(int) (address >>> PAGE_SHIFT)][(int) (address & (PAGE_SIZE - 1))] = b;
+        postingBytes[id]++;
+    }
+
+    private int allocate(int shift) {
+        int size = 1 << shift;
+        if ((used & (PAGE_SIZE - 1)) + size > PAGE_SIZE) {
+            used = (used + PAGE_SIZE) & ~(long) (PAGE_SIZE - 1);
+        }
+        int page = (int) (used >>> PAGE_SHIFT);
+        if (page == pages.length) {
+            pages = Arrays.copyOf(pages, pages.length * 2);
+        }
+        if (pages[page] == null) {
+            pages[page] = new byte[PAGE_SIZE];
+        }
+        long start = used;
+        used += size;
+        return (int) (start >>> UNIT_SHIFT);
+    }
+
+    private void writePointer(long address, int pointer) {
+        byte[] page = pages[(int) (address >>> PAGE_SHIFT)];
+        int offset = (int) (address & (PAGE_SIZE - 1));
+        page[offset] = (byte) (pointer >>> 24);
+        page[offset + 1] = (byte) (pointer >>> 16);
+        page[offset + 2] = (byte) (pointer >>> 8);
+        page[offset + 3] = (byte) pointer;
+    }
+
+    private int readPointer(long address) {
+        byte[] page = pages[(int) (address >>> PAGE_SHIFT)];
+        int offset = (int) (address & (PAGE_SIZE - 1));
+        return (page[offset] & 0xFF) << 24 | (page[offset + 1] & 0xFF) << 16
+                | (page[offset + 2] & 0xFF) << 8 | (page[offset + 3] & 0xFF);
+    }
+}
@@ -0,0 +1,11 @@
+package org.lab_1;
+
+@FunctionalInterface
+public interface PositionSink extends WordSink {
+    void accept(byte[] word, int length, long position);
+
+    @Override
+    default void accept(byte[] word, int length) {
+        accept(word, length, -1);
+    }
+}
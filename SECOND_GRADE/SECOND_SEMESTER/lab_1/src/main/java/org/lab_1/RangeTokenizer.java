@@ -0,0 +1,65 @@
+package org.lab_1;
+
+import java.util.Arrays;
+
+public class RangeTokenizer implements BlockSink {
+    private final Tokenizer tokenizer;
+    private byte[] head = new byte[64];
+    private int headLength;
+    private byte[] tail = new byte[64];
+    private int tailLength;
+    private boolean inHead;
+
+    public RangeTokenizer(Tokenizer tokenizer, boolean firstRange) {
+        this.tokenizer = tokenizer;
+        this.inHead = !firstRange;
+    }
+
+    public byte[] head() { return Arrays.copyOf(head, headLength); }
+    public byte[] tail() { return Arrays.copyOf(tail, tailLength); }
+    public boolean hasBoundary() { return !inHead; }
+
+    @Override
+    public byte[] accept(byte[] block, int length) {
+        int start = 0;
+        if (inHead) {
+            while (start < length && !FileChunk.isAsciiSeparator(block[start])) {
+                start++;
+            }
+            head = append(head, headLength, block, 0, start);
+            headLength += start;
+            if (start == length) {
+                return block;
+            }
+            inHead = false;
+        }
+
+        int last = length - 1;
+        while (last >= start && !FileChunk.isAsciiSeparator(block[last])) {
+            last--;
+        }
+        if (last < start) {
+            tail = append(tail, tailLength, block, start, length - start);
+            tailLength += length - start;
+            return block;
+        }
+        tokenizer.feed(tail, 0, tailLength);
+        tokenizer.feed(block, start, last + 1 - start);
+        tailLength = 0;
+        tail = append(tail, 0, block, last + 1, length - last - 1);
+        tailLength = length - last - 1;
+        return block;
+    }
+
+    public void finish() {
+        tokenizer.finish();
+    }
+
+    private static byte[] append(byte[] target, int targetLength, byte[] source, int offset, int length) {
+        if (targetLength + length > target.length) {
+            target = Arrays.copyOf(target, Math.max(target.length * 2, targetLength + length));
+        }
+        System.arraycopy(source, offset, target, targetLength, length);
+        return target;
+    }
+}
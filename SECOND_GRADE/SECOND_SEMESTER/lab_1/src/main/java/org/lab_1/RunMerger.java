@@ -0,0 +1,77 @@
+package org.lab_1;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+
+public class RunMerger implements Closeable {
+    private final PriorityQueue<RunReader> queue;
+    private final List<RunReader> readers = new ArrayList<>();
+    private final boolean combineEqualWords;
+    private byte[] word = new byte[64];
+    private int length;
+    private long count;
+
+    public RunMerger(List<Path> runs, Comparator<RunReader> order, boolean combineEqualWords) throws IOException {
+        this.queue = new PriorityQueue<>(Math.max(1, runs.size()), order);
+        this.combineEqualWords = combineEqualWords;
+        try {
+            for (Path run : runs) {
+                RunReader reader = new RunReader(run);
+                readers.add(reader);
+                advance(reader);
+            }
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    public byte[] word() { return word; }
+    public int length() { return length; }
+    public long count() { return count; }
+
+    public boolean next() throws IOException {
+        RunReader head = queue.poll();
+        if (head == null) {
+            return false;
+        }
+        if (word.length < head.length()) {
+            word = new byte[Math.max(word.length * 2, head.length())];
+        }
+        System.arraycopy(head.word(), 0, word, 0, head.length());
+        length = head.length();
+        count = head.count();
+        advance(head);
+
+        while (combineEqualWords && !queue.isEmpty()
+                && Arrays.equals(queue.peek().word(), 0, queue.peek().length(), word, 0, length)) {
+            RunReader same = queue.poll();
+            count += same.count();
+            advance(same);
+        }
+        return true;
+    }
+
+    private void advance(RunReader reader) throws IOException {
+        if (reader.next()) {
+            queue.add(reader);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (RunReader reader : readers) {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.lab_1;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+public class RunReader implements Closeable {
+    private final DataInputStream input;
+    private byte[] word = new byte[64];
+    private int length;
+    private long count;
+
+    public RunReader(Path runFile) throws IOException {
+        input = new DataInputStream(new BufferedInputStream(Files.newInputStream(runFile), 1 << 16));
+    }
+
+    public byte[] word() { return word; }
+    public int length() { return length; }
+    public long count() { return count; }
+
+    public boolean next() throws IOException {
+        int suffix = (int) WordSnapshot.readVarLong(input) - 1;
+        if (suffix < 0) {
+            return false;
+        }
+        int shared = (int) WordSnapshot.readVarLong(input);
+        if (word.length < shared + suffix) {
+            word = Arrays.copyOf(word, Math.max(word.length * 2, shared + suffix));
+        }
+        input.readFully(word, shared, suffix);
+        length = shared + suffix;
+        count = WordSnapshot.readVarLong(input);
+        return true;
+    }
+
+    public int compareWords(RunReader other) {
+        return Arrays.compareUnsigned(word, 0, length, other.word, 0, other.length);
+    }
+
+    public int compareByFrequency(RunReader other) {
+        if (count != other.count) {
+            return count > other.count ? -1 : 1;
+        }
+        return compareWords(other);
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+}
@@ -0,0 +1,43 @@
+package org.lab_1;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+public class RunWriter implements Closeable {
+    private final DataOutputStream output;
+    private byte[] previous = new byte[64];
+    private int previousLength;
+
+    public RunWriter(Path runFile) throws IOException {
+        output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(runFile), 1 << 16));
+    }
+
+    public void write(byte[] word, int offset, int length, long count) throws IOException {
+        int shared = 0;
+        int common = Math.min(length, previousLength);
+        while (shared < common && previous[shared] == word[offset + shared]) {
+            shared++;
+        }
+        WordSnapshot.writeVarLong(output, length - shared + 1);
+        WordSnapshot.writeVarLong(output, shared);
+        output.write(word, offset + shared, length - shared);
+        WordSnapshot.writeVarLong(output, count);
+
+        if (previous.length < length) {
+            previous = Arrays.copyOf(previous, Math.max(previous.length * 2, length));
+        }
+        System.arraycopy(word, offset + shared, previous, shared, length - shared);
+        previousLength = length;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            WordSnapshot.writeVarLong(output, 0);
+        } finally {
+            output.close();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.lab_1;
+
+public class SlidingWindow {
+    private final long lengthMillis;
+    private final long slotMillis;
+    private final WordCountTable[] ring;
+    private final WordCountTable counts = new WordCountTable();
+    private long currentSlot = -1;
+    private int zeroed;
+
+    public SlidingWindow(long lengthMillis, int slots) {
+        this.lengthMillis = lengthMillis;
+        this.slotMillis = Math.max(1, lengthMillis / slots);
+        this.ring = new WordCountTable[slots];
+        for (int i = 0; i < slots; i++) {
+            ring[i] = new WordCountTable();
+        }
+    }
+
+    public long lengthMillis() { return lengthMillis; }
+    public WordCountTable counts() { return counts; }
+
+    public void add(long timeMillis, WordCountTable bucket) {
+        advance(timeMillis);
+        ring[(int) (currentSlot % ring.length)].addAll(bucket);
+        counts.addAll(bucket);
+    }
+
+    public void advance(long timeMillis) {
+        long slot = timeMillis / slotMillis;
+        if (currentSlot < 0) {
+            currentSlot = slot;
+            return;
+        }
+        long expired = Math.min(slot - currentSlot, ring.length);
+        for (long i = slot - expired + 1; i <= slot; i++) {
+            expire(ring[(int) (i % ring.length)]);
+        }
+        currentSlot = Math.max(currentSlot, slot);
+    }
+
+    private void expire(WordCountTable slot) {
+        if (slot.size() == 0) {
+            return;
+        }
+        zeroed += counts.subtractAll(slot);
+        slot.clear();
+        if (zeroed * 2 > counts.size()) {
+            counts.removeZeroCounts();
+            zeroed = 0;
+        }
+    }
+}
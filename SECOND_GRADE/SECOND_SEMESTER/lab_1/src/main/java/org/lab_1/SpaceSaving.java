@@ -0,0 +1,145 @@
+package org.lab_1;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public class SpaceSaving {
+    private final int capacity;
+    private final byte[][] words;
+    private final int[] wordLengths;
+    private final long[] hashes;
+    private final int[] counts;
+    private final int[] errors;
+    private final int[] heap;
+    private final int[] heapPositions;
+    private final int[] slots;
+    private final int mask;
+    private int size;
+
+    public SpaceSaving(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Heavy hitter capacity must be positive.");
+        }
+        this.capacity = capacity;
+        this.words = new byte[capacity][];
+        this.wordLengths = new int[capacity];
+        this.hashes = new long[capacity];
+        this.counts = new int[capacity];
+        this.errors = new int[capacity];
+        this.heap = new int[capacity];
+        this.heapPositions = new int[capacity];
+        this.slots = new int[Integer.highestOneBit(capacity) * 4];
+        this.mask = slots.length - 1;
+    }
+
+    public int getCapacity() { return capacity; }
+    public int size() { return size; }
+    public int count(int entry) { return counts[entry]; }
+    public int error(int entry) { return errors[entry]; }
+    public long hash(int entry) { return hashes[entry]; }
+
+    public int compareWords(int a, int b) {
+        return Arrays.compareUnsigned(words[a], 0, wordLengths[a], words[b], 0, wordLengths[b]);
+    }
+
+    public String word(int entry) {
+        return new String(words[entry], 0, wordLengths[entry], StandardCharsets.UTF_8);
+    }
+
+    public void offer(byte[] word, int length, long hash) {
+        int slot = (int) hash & mask;
+        int entry;
+        while ((entry = slots[slot] - 1) >= 0) {
+            if (hashes[entry] == hash && Arrays.equals(words[entry], 0, wordLengths[entry], word, 0, length)) {
+                counts[entry]++;
+                siftDown(heapPositions[entry]);
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (size < capacity) {
+            entry = size++;
+            store(entry, word, length, hash, 1, 0);
+            heap[entry] = entry;
+            heapPositions[entry] = entry;
+            siftUp(entry);
+        } else {
+            entry = heap[0];
+            removeSlot(entry);
+            int minimum = counts[entry];
+            store(entry, word, length, hash, minimum + 1, minimum);
+            siftDown(0);
+            slot = (int) hash & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+        }
+        slots[slot] = entry + 1;
+    }
+
+    private void store(int entry, byte[] word, int length, long hash, int count, int error) {
+        if (words[entry] == null || words[entry].length < length) {
+            words[entry] = new byte[Math.max(length, 16)];
+        }
+        System.arraycopy(word, 0, words[entry], 0, length);
+        wordLengths[entry] = length;
+        hashes[entry] = hash;
+        counts[entry] = count;
+        errors[entry] = error;
+    }
+
+    private void removeSlot(int entry) {
+        int hole = (int) hashes[entry] & mask;
+        while (slots[hole] != entry + 1) {
+            hole = (hole + 1) & mask;
+        }
+        slots[hole] = 0;
+
+        int next = hole;
+        while (slots[next = (next + 1) & mask] != 0) {
+            int home = (int) hashes[slots[next] - 1] & mask;
+            boolean movable = hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (movable) {
+                slots[hole] = slots[next];
+                slots[next] = 0;
+                hole = next;
+            }
+        }
+    }
+
+    private void siftUp(int position) {
+        int entry = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (counts[heap[parent]] <= counts[entry]) {
+                break;
+            }
+            place(heap[parent], position);
+            position = parent;
+        }
+        place(entry, position);
+    }
+
+    private void siftDown(int position) {
+        int entry = heap[position];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            if (child + 1 < size && counts[heap[child + 1]] < counts[heap[child]]) {
+                child++;
+            }
+            if (counts[entry] <= counts[heap[child]]) {
+                break;
+            }
+            place(heap[child], position);
+            position = child;
+        }
+        place(entry, position);
+    }
+
+    private void place(int entry, int position) {
+        heap[position] = entry;
+        heapPositions[entry] = position;
+    }
+}
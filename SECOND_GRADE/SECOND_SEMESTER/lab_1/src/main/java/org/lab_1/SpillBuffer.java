@@ -0,0 +1,50 @@
+package org.lab_1;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+public class SpillBuffer {
+    private final WordArena arena = new WordArena(1 << 16);
+    private int[] offsets = new int[1025];
+    private long[] counts = new long[1024];
+    private int size;
+
+    public int size() { return size; }
+
+    public void add(byte[] word, int length, long count) {
+        if (size == counts.length) {
+            counts = Arrays.copyOf(counts, size * 2);
+            offsets = Arrays.copyOf(offsets, size * 2 + 1);
+        }
+        arena.append(word, 0, length);
+        counts[size++] = count;
+        offsets[size] = arena.used();
+    }
+
+    public long usedBytes() {
+        return 16L * size + arena.used();
+    }
+
+    public Path writeByFrequency(Path runFile) throws IOException {
+        int[] ids = new int[size];
+        Arrays.setAll(ids, id -> id);
+        IdSort.sort(ids, this::compareByFrequency);
+        try (RunWriter writer = new RunWriter(runFile)) {
+            for (int id : ids) {
+                int length = offsets[id + 1] - offsets[id];
+                writer.write(arena.read(offsets[id], length), 0, length, counts[id]);
+            }
+        }
+        arena.truncate(0);
+        size = 0;
+        return runFile;
+    }
+
+    private int compareByFrequency(int a, int b) {
+        if (counts[a] != counts[b]) {
+            return counts[a] > counts[b] ? -1 : 1;
+        }
+        return arena.compare(offsets[a], offsets[a + 1] - offsets[a], offsets[b], offsets[b + 1] - offsets[b]);
+    }
+}
@@ -0,0 +1,131 @@
+package org.lab_1;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class SpillingCounter implements WordSink, Closeable {
+    private static final int CHECK_INTERVAL = 4096;
+    private static final int MAX_FAN_IN = 64;
+
+    private final long memoryBudget;
+    private final Path spillDirectory;
+    private final List<Path> runs = new ArrayList<>();
+    private WordCountTable table = new WordCountTable();
+    private long totalCount;
+    private int wordsSinceCheck;
+    private int runNumber;
+
+    public SpillingCounter(long memoryBudget, Path spillParent) throws IOException {
+        this.memoryBudget = memoryBudget;
+        this.spillDirectory = Files.createTempDirectory(spillParent, "word-runs");
+    }
+
+    public int runCount() { return runs.size(); }
+
+    @Override
+    public void accept(byte[] word, int length) {
+        table.add(word, 0, length, 1);
+        totalCount++;
+        if (++wordsSinceCheck == CHECK_INTERVAL) {
+            wordsSinceCheck = 0;
+            if (table.heapFootprint() + table.offHeapFootprint() >= memoryBudget) {
+                try {
+                    spillTable();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    public void writeToFile(String outputFileName, int limit) throws IOException {
+        if (runs.isEmpty()) {
+            if (limit > 0) {
+                CSVWriter.writeSortedToFile(outputFileName, WordData.topWords(table, limit));
+            } else {
+                CSVWriter.writeToFile(outputFileName, table);
+            }
+            return;
+        }
+        if (table.size() > 0) {
+            spillTable();
+        }
+        List<Path> frequencyRuns = sortByFrequency(reduce(runs, RunReader::compareWords, true));
+        CSVWriter.writeToFile(outputFileName, frequencyRuns, totalCount, limit > 0 ? limit : Long.MAX_VALUE);
+    }
+
+    private void spillTable() throws IOException {
+        Path run = nextRunFile();
+        WordArena arena = table.arena();
+        try (RunWriter writer = new RunWriter(run)) {
+            for (int id : table.idsByWord()) {
+                int length = table.wordLength(id);
+                writer.write(arena.read(table.wordOffset(id), length), 0, length, table.count(id));
+            }
+        }
+        runs.add(run);
+        table = new WordCountTable();
+    }
+
+    private List<Path> sortByFrequency(List<Path> wordRuns) throws IOException {
+        List<Path> frequencyRuns = new ArrayList<>();
+        SpillBuffer buffer = new SpillBuffer();
+        try (RunMerger merger = new RunMerger(wordRuns, RunReader::compareWords, true)) {
+            while (merger.next()) {
+                buffer.add(merger.word(), merger.length(), merger.count());
+                if (buffer.size() % CHECK_INTERVAL == 0 && buffer.usedBytes() >= memoryBudget) {
+                    frequencyRuns.add(buffer.writeByFrequency(nextRunFile()));
+                }
+            }
+        }
+        if (buffer.size() > 0) {
+            frequencyRuns.add(buffer.writeByFrequency(nextRunFile()));
+        }
+        delete(wordRuns);
+        return reduce(frequencyRuns, RunReader::compareByFrequency, false);
+    }
+
+    private List<Path> reduce(List<Path> runs, Comparator<RunReader> order, boolean combineEqualWords) throws IOException {
+        List<Path> pending = new ArrayList<>(runs);
+        while (pending.size() > MAX_FAN_IN) {
+            List<Path> batch = new ArrayList<>(pending.subList(0, MAX_FAN_IN));
+            pending.subList(0, MAX_FAN_IN).clear();
+
+            Path merged = nextRunFile();
+            try (RunMerger merger = new RunMerger(batch, order, combineEqualWords);
+                 RunWriter writer = new RunWriter(merged)) {
+                while (merger.next()) {
+                    writer.write(merger.word(), 0, merger.length(), merger.count());
+                }
+            }
+            delete(batch);
+            pending.add(merged);
+        }
+        return pending;
+    }
+
+    private Path nextRunFile() {
+        return spillDirectory.resolve("run-" + runNumber++ + ".bin");
+    }
+
+    private static void delete(List<Path> files) throws IOException {
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            delete(files.toList());
+        }
+        Files.deleteIfExists(spillDirectory);
+    }
+}
@@ -0,0 +1,103 @@
+package org.lab_1;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.*;
+
+public class StreamingCounter {
+    private static final int BLOCK_SIZE = 1 << 16;
+    private static final int BLOCK_COUNT = 16;
+    private static final long MIN_BUCKET_MILLIS = 100;
+    private static final long MAX_BUCKET_MILLIS = 1000;
+    private static final ByteBuffer END_OF_INPUT = ByteBuffer.allocate(0);
+
+    private final WindowedCounts windows;
+    private final long emitIntervalMillis;
+    private final long bucketMillis;
+    private final TokenizerKind tokenizerKind;
+    private final BlockingQueue<ByteBuffer> filledBlocks = new ArrayBlockingQueue<>(BLOCK_COUNT + 1);
+    private final BlockingQueue<ByteBuffer> freeBlocks = new ArrayBlockingQueue<>(BLOCK_COUNT);
+    private final BlockingQueue<WordCountTable> spareTables = new LinkedBlockingQueue<>();
+    private final ScheduledExecutorService aggregator = Executors.newSingleThreadScheduledExecutor();
+
+    private WordCountTable bucket = new WordCountTable();
+    private long bucketIndex;
+
+    public StreamingCounter(WindowedCounts windows, long emitIntervalMillis, TokenizerKind tokenizerKind) {
+        this.windows = windows;
+        this.tokenizerKind = tokenizerKind;
+        this.emitIntervalMillis = emitIntervalMillis;
+        this.bucketMillis = Math.max(MIN_BUCKET_MILLIS, Math.min(MAX_BUCKET_MILLIS, windows.smallestSlotMillis()));
+        for (int i = 0; i < BLOCK_COUNT; i++) {
+            freeBlocks.add(ByteBuffer.allocateDirect(BLOCK_SIZE));
+        }
+    }
+
+    public void run(ReadableByteChannel source) throws InterruptedException {
+        Thread reader = new Thread(() -> readBlocks(source), "stream-reader");
+        reader.setDaemon(true);
+        reader.start();
+        aggregator.scheduleAtFixedRate(windows::emitSliding, emitIntervalMillis, emitIntervalMillis, TimeUnit.MILLISECONDS);
+
+        Tokenizer tokenizer = tokenizerKind.create((word, length) -> bucket.add(word, 0, length, 1));
+        bucketIndex = System.currentTimeMillis() / bucketMillis;
+        while (true) {
+            long now = System.currentTimeMillis();
+            if (now / bucketMillis != bucketIndex) {
+                sealBucket(now / bucketMillis);
+            }
+            ByteBuffer block = filledBlocks.poll((bucketIndex + 1) * bucketMillis - now, TimeUnit.MILLISECONDS);
+            if (block == END_OF_INPUT) {
+                break;
+            }
+            if (block != null) {
+                tokenizer.feed(block);
+                freeBlocks.put(block.clear());
+            }
+        }
+        tokenizer.finish();
+        sealBucket(bucketIndex + 1);
+
+        aggregator.execute(windows::finish);
+        aggregator.shutdown();
+        aggregator.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    }
+
+    private void sealBucket(long nextIndex) {
+        WordCountTable sealed = bucket;
+        long start = bucketIndex * bucketMillis;
+        long end = nextIndex * bucketMillis;
+        aggregator.execute(() -> {
+            windows.add(start, end, sealed);
+            sealed.clear();
+            spareTables.add(sealed);
+        });
+        WordCountTable spare = spareTables.poll();
+        bucket = spare != null ? spare : new WordCountTable();
+        bucketIndex = nextIndex;
+    }
+
+    private void readBlocks(ReadableByteChannel source) {
+        try {
+            while (true) {
+                ByteBuffer block = freeBlocks.take();
+                int read = source.read(block);
+                if (read < 0) {
+                    break;
+                }
+                if (block.position() > 0) {
+                    filledBlocks.put(block.flip());
+                } else {
+                    freeBlocks.put(block);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Unable to read from input: " + e.getLocalizedMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            filledBlocks.offer(END_OF_INPUT);
+        }
+    }
+}
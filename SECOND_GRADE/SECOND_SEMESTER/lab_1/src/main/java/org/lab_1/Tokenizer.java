@@ -0,0 +1,11 @@
+package org.lab_1;
+
+import java.nio.ByteBuffer;
+
+public interface Tokenizer {
+    void feed(ByteBuffer buffer);
+
+    void feed(byte[] buffer, int offset, int length);
+
+    void finish();
+}
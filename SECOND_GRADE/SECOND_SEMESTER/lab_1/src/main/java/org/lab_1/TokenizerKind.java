@@ -0,0 +1,33 @@
+package org.lab_1;
+
+import java.util.Locale;
+
+public enum TokenizerKind {
+    ASCII,
+    UNICODE,
+    NFC;
+
+    private static final boolean VECTOR_API = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    public static boolean isVectorized() { return VECTOR_API; }
+
+    public Tokenizer create(WordSink sink) {
+        return VECTOR_API ? new VectorAsciiTokenizer(sink, this::createScalar) : createScalar(sink);
+    }
+
+    public Tokenizer createScalar(WordSink sink) {
+        return switch (this) {
+            case ASCII -> new AsciiTokenizer(sink);
+            case UNICODE -> new Utf8Tokenizer(sink, CharClassTable.UNICODE);
+            case NFC -> new Utf8Tokenizer(sink, CharClassTable.nfcCaseFold());
+        };
+    }
+
+    public static TokenizerKind parse(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("--tokenizer expects ascii, unicode or nfc, got '" + name + "'.");
+        }
+    }
+}
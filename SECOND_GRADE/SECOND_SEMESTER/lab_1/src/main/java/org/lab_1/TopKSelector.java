@@ -0,0 +1,63 @@
+package org.lab_1;
+
+import java.util.Arrays;
+
+public class TopKSelector {
+    private final int[] heap;
+    private final IntComparator order;
+    private int size;
+
+    public TopKSelector(int k, IntComparator order) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+        this.heap = new int[k];
+        this.order = order;
+    }
+
+    public void offer(int id) {
+        if (size < heap.length) {
+            heap[size] = id;
+            siftUp(size++);
+        } else if (order.compare(id, heap[0]) < 0) {
+            heap[0] = id;
+            siftDown(0);
+        }
+    }
+
+    public int[] sorted() {
+        int[] sorted = Arrays.copyOf(heap, size);
+        IdSort.sort(sorted, order);
+        return sorted;
+    }
+
+    private void siftUp(int index) {
+        int id = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (order.compare(heap[parent], id) >= 0) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = id;
+    }
+
+    private void siftDown(int index) {
+        int id = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && order.compare(heap[child + 1], heap[child]) > 0) {
+                child++;
+            }
+            if (order.compare(id, heap[child]) >= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = id;
+    }
+}
@@ -0,0 +1,29 @@
+package org.lab_1;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+
+public record TrackedFile(String path, long processedLength, long wordBoundary, long checksum) {
+    private static final int CHECKSUM_WINDOW = 1 << 16;
+
+    public static long checksum(FileChannel channel, long length) throws IOException {
+        CRC32 crc = new CRC32();
+        update(crc, channel, 0, Math.min(CHECKSUM_WINDOW, length));
+        update(crc, channel, Math.max(0, length - CHECKSUM_WINDOW), length);
+        crc.update(ByteBuffer.allocate(Long.BYTES).putLong(0, length));
+        return crc.getValue();
+    }
+
+    private static void update(CRC32 crc, FileChannel channel, long start, long end) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, start + buffer.position()) <= 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        crc.update(buffer);
+    }
+}
@@ -0,0 +1,27 @@
+package org.lab_1;
+
+public class TumblingWindow {
+    private final long lengthMillis;
+    private final WordCountTable counts = new WordCountTable();
+    private long windowIndex = -1;
+
+    public TumblingWindow(long lengthMillis) {
+        this.lengthMillis = lengthMillis;
+    }
+
+    public long lengthMillis() { return lengthMillis; }
+    public WordCountTable counts() { return counts; }
+    public long windowStart() { return windowIndex * lengthMillis; }
+
+    public boolean closesAt(long timeMillis) {
+        return windowIndex >= 0 && timeMillis / lengthMillis != windowIndex;
+    }
+
+    public void add(long timeMillis, WordCountTable bucket) {
+        if (closesAt(timeMillis)) {
+            counts.clear();
+        }
+        windowIndex = timeMillis / lengthMillis;
+        counts.addAll(bucket);
+    }
+}
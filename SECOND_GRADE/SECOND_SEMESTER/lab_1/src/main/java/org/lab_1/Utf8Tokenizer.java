@@ -0,0 +1,200 @@
+package org.lab_1;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+
+public class Utf8Tokenizer implements Tokenizer {
+    private static final Set<String> SPECIAL_CASING_LANGUAGES = Set.of("tr", "az", "lt");
+
+    private final WordSink sink;
+    private final PositionSink positionSink;
+    private final CharClassTable table;
+    private final boolean localeSensitive;
+    private byte[] word = new byte[64];
+    private int wordLength;
+    private boolean needsSlowPath;
+    private long position;
+    private long wordStart;
+    private long codePointStart;
+
+    private int codePoint;
+    private int pendingContinuations;
+    private int minCodePoint;
+    private final byte[] pendingBytes = new byte[4];
+    private int pendingLength;
+
+    public Utf8Tokenizer(WordSink sink) {
+        this(sink, CharClassTable.UNICODE);
+    }
+
+    public Utf8Tokenizer(WordSink sink, CharClassTable table) {
+        this.sink = sink;
+        this.positionSink = sink instanceof PositionSink positions ? positions : null;
+        this.table = table;
+        this.localeSensitive = table.isLocaleSensitive()
+                && SPECIAL_CASING_LANGUAGES.contains(Locale.getDefault().getLanguage());
+    }
+
+    public boolean isLocaleSensitive() { return localeSensitive; }
+
+    @Override
+    public void feed(ByteBuffer buffer) {
+        int limit = buffer.limit();
+        for (int i = buffer.position(); i < limit; i++) {
+            feedByte(buffer.get(i));
+            position++;
+        }
+        buffer.position(limit);
+    }
+
+    @Override
+    public void feed(byte[] buffer, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            feedByte(buffer[i]);
+            position++;
+        }
+    }
+
+    @Override
+    public void finish() {
+        pendingContinuations = 0;
+        endWord();
+        position = 0;
+    }
+
+    private void feedByte(byte b) {
+        if (b >= 0) {
+            if (pendingContinuations > 0) {
+                pendingContinuations = 0;
+                endWord();
+            }
+            if ((table.flags(b) & CharClassTable.WORD) != 0) {
+                appendAscii(b);
+            } else {
+                endWord();
+            }
+        } else if ((b & 0xC0) == 0x80) {
+            if (pendingContinuations == 0) {
+                endWord();
+                return;
+            }
+            codePoint = (codePoint << 6) | (b & 0x3F);
+            pendingBytes[pendingLength++] = b;
+            if (--pendingContinuations == 0) {
+                completeCodePoint();
+            }
+        } else {
+            if (pendingContinuations > 0) {
+                endWord();
+            }
+            startCodePoint(b);
+        }
+    }
+
+    private void startCodePoint(byte lead) {
+        pendingLength = 0;
+        pendingBytes[pendingLength++] = lead;
+        codePointStart = position;
+        if ((lead & 0xE0) == 0xC0) {
+            codePoint = lead & 0x1F;
+            pendingContinuations = 1;
+            minCodePoint = 0x80;
+        } else if ((lead & 0xF0) == 0xE0) {
+            codePoint = lead & 0x0F;
+            pendingContinuations = 2;
+            minCodePoint = 0x800;
+        } else if ((lead & 0xF8) == 0xF0) {
+            codePoint = lead & 0x07;
+            pendingContinuations = 3;
+            minCodePoint = 0x10000;
+        } else {
+            pendingContinuations = 0;
+            endWord();
+        }
+    }
+
+    private void completeCodePoint() {
+        boolean valid = codePoint >= minCodePoint && codePoint <= Character.MAX_CODE_POINT
+                && (codePoint < Character.MIN_SURROGATE || codePoint > Character.MAX_SURROGATE);
+        byte flags = valid ? table.flags(codePoint) : 0;
+        if ((flags & CharClassTable.WORD) == 0 && ((flags & CharClassTable.CONTINUATION) == 0 || wordLength == 0)) {
+            endWord();
+            return;
+        }
+
+        if (wordLength == 0) {
+            wordStart = codePointStart;
+        }
+        if (localeSensitive || (flags & CharClassTable.SPECIAL) != 0) {
+            needsSlowPath = true;
+            append(pendingBytes, pendingLength);
+        } else {
+            appendCodePoint(table.fold(codePoint));
+        }
+    }
+
+    private void appendAscii(byte b) {
+        if (wordLength == 0) {
+            wordStart = position;
+        }
+        ensureCapacity(1);
+        word[wordLength++] = localeSensitive ? b : (byte) table.fold(b);
+        needsSlowPath |= localeSensitive;
+    }
+
+    private void appendCodePoint(int cp) {
+        ensureCapacity(4);
+        if (cp < 0x80) {
+            word[wordLength++] = (byte) cp;
+        } else if (cp < 0x800) {
+            word[wordLength++] = (byte) (0xC0 | (cp >> 6));
+            word[wordLength++] = (byte) (0x80 | (cp & 0x3F));
+        } else if (cp < 0x10000) {
+            word[wordLength++] = (byte) (0xE0 | (cp >> 12));
+            word[wordLength++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+            word[wordLength++] = (byte) (0x80 | (cp & 0x3F));
+        } else {
+            word[wordLength++] = (byte) (0xF0 | (cp >> 18));
+            word[wordLength++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+            word[wordLength++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+            word[wordLength++] = (byte) (0x80 | (cp & 0x3F));
+        }
+    }
+
+    private void append(byte[] bytes, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, 0, word, wordLength, length);
+        wordLength += length;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (wordLength + extra > word.length) {
+            word = Arrays.copyOf(word, Math.max(word.length * 2, wordLength + extra));
+        }
+    }
+
+    private void endWord() {
+        if (wordLength == 0) {
+            return;
+        }
+        if (needsSlowPath) {
+            byte[] folded = table.slowPath(new String(word, 0, wordLength, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+            emit(folded, folded.length);
+            needsSlowPath = false;
+        } else {
+            emit(word, wordLength);
+        }
+        wordLength = 0;
+    }
+
+    private void emit(byte[] bytes, int length) {
+        if (positionSink != null) {
+            positionSink.accept(bytes, length, wordStart);
+        } else {
+            sink.accept(bytes, length);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package org.lab_1;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.Function;
+
+public class VectorAsciiTokenizer implements Tokenizer {
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_256;
+    private static final int LANES = SPECIES.length();
+    private static final long GATHER_BITS = 0x0102040810204080L;
+    private static final LongVector LANE_SHIFTS = LongVector.fromArray(LongVector.SPECIES_256, new long[] {0, 8, 16, 24}, 0);
+    private static final ByteVector ZERO = ByteVector.zero(SPECIES);
+    private static final int BLOCK_SIZE = 1 << 16;
+    private static final int BYPASS_CHUNKS = 16;
+    private static final int BYPASS_BYTES = 1 << 16;
+
+    private final WordSink sink;
+    private final PositionSink positionSink;
+    private final Tokenizer scalar;
+    private final boolean vectorized;
+    private final boolean asciiOnly;
+    private final byte[] lowered = new byte[LANES];
+    private byte[] block;
+    private byte[] word = new byte[64];
+    private int wordLength;
+    private long wordStart;
+    private long position;
+    private long scalarFed;
+    private long scalarOffset;
+    private boolean inScalar;
+    private int nonAsciiChunks;
+    private long bypass;
+
+    public VectorAsciiTokenizer(WordSink sink, Function<WordSink, Tokenizer> scalarFactory) {
+        this.sink = sink;
+        this.positionSink = sink instanceof PositionSink positions ? positions : null;
+        this.scalar = scalarFactory.apply(positionSink == null ? sink
+                : (PositionSink) (bytes, length, start) -> positionSink.accept(bytes, length, start + scalarOffset));
+        this.vectorized = !(scalar instanceof Utf8Tokenizer utf8 && utf8.isLocaleSensitive());
+        this.asciiOnly = scalar instanceof AsciiTokenizer;
+    }
+
+    @Override
+    public void feed(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            feed(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+            return;
+        }
+        if (block == null) {
+            block = new byte[BLOCK_SIZE];
+        }
+        while (buffer.hasRemaining()) {
+            int length = Math.min(block.length, buffer.remaining());
+            buffer.get(block, 0, length);
+            feed(block, 0, length);
+        }
+    }
+
+    @Override
+    public void feed(byte[] buffer, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        if (vectorized) {
+            for (; i + LANES <= end; i += LANES) {
+                if (bypass > 0) {
+                    int run = (int) Math.min(bypass, end - i);
+                    enterScalar(position + (i - offset));
+                    feedScalar(buffer, i, run);
+                    bypass -= run;
+                    i += run - LANES;
+                    continue;
+                }
+                ByteVector bytes = ByteVector.fromArray(SPECIES, buffer, i);
+                if (!asciiOnly && bytes.compare(VectorOperators.LT, (byte) 0).anyTrue()) {
+                    int runEnd = i + LANES;
+                    nonAsciiChunks++;
+                    while (runEnd + LANES <= end && nonAsciiChunks < BYPASS_CHUNKS && ByteVector.fromArray(SPECIES, buffer, runEnd)
+                            .compare(VectorOperators.LT, (byte) 0).anyTrue()) {
+                        runEnd += LANES;
+                        nonAsciiChunks++;
+                    }
+                    if (nonAsciiChunks >= BYPASS_CHUNKS) {
+                        nonAsciiChunks = 0;
+                        bypass = BYPASS_BYTES;
+                    }
+                    enterScalar(position + (i - offset));
+                    feedScalar(buffer, i, runEnd - i);
+                    i = runEnd - LANES;
+                    continue;
+                }
+                nonAsciiChunks = 0;
+
+                ByteVector folded = bytes.or((byte) 0x20);
+                VectorMask<Byte> letters = folded.compare(VectorOperators.GE, (byte) 'a')
+                        .and(folded.compare(VectorOperators.LE, (byte) 'z'));
+                VectorMask<Byte> digits = bytes.compare(VectorOperators.GE, (byte) '0')
+                        .and(bytes.compare(VectorOperators.LE, (byte) '9'));
+                long mask = ZERO.blend((byte) 1, letters.or(digits)).reinterpretAsLongs()
+                        .mul(GATHER_BITS).lanewise(VectorOperators.LSHR, 56)
+                        .lanewise(VectorOperators.LSHL, LANE_SHIFTS).reduceLanes(VectorOperators.OR);
+
+                if (inScalar) {
+                    int separator = Long.numberOfTrailingZeros(~mask);
+                    if (separator >= LANES) {
+                        feedScalar(buffer, i, LANES);
+                        continue;
+                    }
+                    feedScalar(buffer, i, separator + 1);
+                    inScalar = false;
+                    mask = separator + 1 >= Long.SIZE ? 0 : mask & (-1L << (separator + 1));
+                }
+                folded.intoArray(lowered, 0);
+                splitWords(mask, position + (i - offset));
+            }
+        }
+        if (i < end) {
+            enterScalar(position + (i - offset));
+            feedScalar(buffer, i, end - i);
+        }
+        position += length;
+    }
+
+    @Override
+    public void finish() {
+        if (inScalar) {
+            inScalar = false;
+        } else {
+            endWord();
+        }
+        scalar.finish();
+        scalarFed = 0;
+        position = 0;
+        nonAsciiChunks = 0;
+        bypass = 0;
+    }
+
+    private void splitWords(long mask, long chunkPosition) {
+        if ((mask & 1) == 0) {
+            endWord();
+        }
+        while (mask != 0) {
+            int start = Long.numberOfTrailingZeros(mask);
+            int run = Long.numberOfTrailingZeros(~(mask >>> start));
+            if (wordLength == 0) {
+                wordStart = chunkPosition + start;
+            }
+            append(lowered, start, run);
+            int stop = start + run;
+            if (stop < LANES) {
+                endWord();
+            }
+            mask = stop >= Long.SIZE ? 0 : mask & (-1L << stop);
+        }
+    }
+
+    private void enterScalar(long at) {
+        if (inScalar) {
+            return;
+        }
+        inScalar = true;
+        if (wordLength > 0) {
+            scalarOffset = wordStart - scalarFed;
+            feedScalar(word, 0, wordLength);
+            wordLength = 0;
+        } else {
+            scalarOffset = at - scalarFed;
+        }
+    }
+
+    private void feedScalar(byte[] bytes, int offset, int length) {
+        scalar.feed(bytes, offset, length);
+        scalarFed += length;
+    }
+
+    private void append(byte[] bytes, int offset, int length) {
+        if (wordLength + length > word.length) {
+            word = Arrays.copyOf(word, Math.max(word.length * 2, wordLength + length));
+        }
+        System.arraycopy(bytes, offset, word, wordLength, length);
+        wordLength += length;
+    }
+
+    private void endWord() {
+        if (wordLength == 0) {
+            return;
+        }
+        if (positionSink != null) {
+            positionSink.accept(word, wordLength, wordStart);
+        } else {
+            sink.accept(word, wordLength);
+        }
+        wordLength = 0;
+    }
+}
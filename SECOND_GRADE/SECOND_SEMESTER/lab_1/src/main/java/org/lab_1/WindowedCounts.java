@@ -0,0 +1,108 @@
+package org.lab_1;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+public class WindowedCounts {
+    private static final int SLOTS_PER_WINDOW = 60;
+
+    private final String outputFileName;
+    private final int top;
+    private final List<SlidingWindow> slidingWindows = new ArrayList<>();
+    private final List<TumblingWindow> tumblingWindows = new ArrayList<>();
+    private long lastBucketEnd;
+
+    public WindowedCounts(String outputFileName, int top, List<Long> sliding, List<Long> tumbling) {
+        this.outputFileName = outputFileName;
+        this.top = top;
+        for (long lengthMillis : sliding) {
+            slidingWindows.add(new SlidingWindow(lengthMillis, SLOTS_PER_WINDOW));
+        }
+        for (long lengthMillis : tumbling) {
+            tumblingWindows.add(new TumblingWindow(lengthMillis));
+        }
+    }
+
+    public long smallestSlotMillis() {
+        long smallest = Long.MAX_VALUE;
+        for (SlidingWindow window : slidingWindows) {
+            smallest = Math.min(smallest, window.lengthMillis() / SLOTS_PER_WINDOW);
+        }
+        for (TumblingWindow window : tumblingWindows) {
+            smallest = Math.min(smallest, window.lengthMillis() / SLOTS_PER_WINDOW);
+        }
+        return smallest;
+    }
+
+    public void add(long bucketStart, long bucketEnd, WordCountTable bucket) {
+        for (TumblingWindow window : tumblingWindows) {
+            if (window.closesAt(bucketStart)) {
+                emitTumbling(window, window.windowStart() + window.lengthMillis());
+            }
+            window.add(bucketStart, bucket);
+        }
+        for (SlidingWindow window : slidingWindows) {
+            window.add(bucketStart, bucket);
+        }
+        lastBucketEnd = bucketEnd;
+    }
+
+    public void emitSliding() {
+        if (lastBucketEnd == 0) {
+            return;
+        }
+        for (SlidingWindow window : slidingWindows) {
+            emit(windowFileName("sliding", window.lengthMillis()), window.counts(),
+                    "last " + formatDuration(window.lengthMillis()) + " up to " + Instant.ofEpochMilli(lastBucketEnd));
+        }
+    }
+
+    public void finish() {
+        emitSliding();
+        for (TumblingWindow window : tumblingWindows) {
+            emitTumbling(window, lastBucketEnd);
+        }
+    }
+
+    private void emitTumbling(TumblingWindow window, long windowEnd) {
+        emit(windowFileName("tumbling", window.lengthMillis()), window.counts(),
+                "window " + Instant.ofEpochMilli(window.windowStart()) + " to " + Instant.ofEpochMilli(windowEnd));
+    }
+
+    private void emit(String fileName, WordCountTable counts, String note) {
+        Path target = Path.of(fileName);
+        Path temporary = Path.of(fileName + ".tmp");
+        CSVWriter.writeSortedToFile(temporary.toString(), WordData.topWords(counts, top), note);
+        try {
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Unable to write into file: " + e.getLocalizedMessage());
+        }
+    }
+
+    private String windowFileName(String kind, long lengthMillis) {
+        String suffix = "." + kind + "-" + formatDuration(lengthMillis);
+        if (outputFileName.endsWith(".csv")) {
+            return outputFileName.substring(0, outputFileName.length() - 4) + suffix + ".csv";
+        }
+        return outputFileName + suffix + ".csv";
+    }
+
+    static String formatDuration(long millis) {
+        if (millis % 3_600_000 == 0) {
+            return millis / 3_600_000 + "h";
+        }
+        if (millis % 60_000 == 0) {
+            return millis / 60_000 + "m";
+        }
+        if (millis % 1000 == 0) {
+            return millis / 1000 + "s";
+        }
+        return millis + "ms";
+    }
+}
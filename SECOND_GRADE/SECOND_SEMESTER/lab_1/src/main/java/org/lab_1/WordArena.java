@@ -0,0 +1,102 @@
+package org.lab_1;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class WordArena {
+    private ByteBuffer memory;
+    private byte[] scratch = new byte[64];
+    private int used;
+
+    public WordArena(int initialCapacity) {
+        memory = ByteBuffer.allocateDirect(initialCapacity);
+    }
+
+    public int used() { return used; }
+    public int capacity() { return memory.capacity(); }
+
+    public int append(byte[] word, int offset, int length) {
+        if ((long) used + length > memory.capacity()) {
+            grow((long) used + length);
+        }
+        int start = used;
+        memory.put(start, word, offset, length);
+        used += length;
+        return start;
+    }
+
+    public boolean matches(int start, byte[] word, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            if (memory.get(start + i) != word[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int compare(int startA, int lengthA, int startB, int lengthB) {
+        int common = Math.min(lengthA, lengthB);
+        for (int i = 0; i < common; i++) {
+            int difference = (memory.get(startA + i) & 0xFF) - (memory.get(startB + i) & 0xFF);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return lengthA - lengthB;
+    }
+
+    public int commonPrefix(int startA, int lengthA, int startB, int lengthB) {
+        int common = Math.min(lengthA, lengthB);
+        for (int i = 0; i < common; i++) {
+            if (memory.get(startA + i) != memory.get(startB + i)) {
+                return i;
+            }
+        }
+        return common;
+    }
+
+    public void copyTo(int start, byte[] target, int targetOffset, int length) {
+        memory.get(start, target, targetOffset, length);
+    }
+
+    public void copyTo(int start, ByteBuffer target, int length) {
+        target.put(target.position(), memory, start, length);
+        target.position(target.position() + length);
+    }
+
+    public ByteBuffer slice(int start, int length) {
+        return memory.slice(start, length);
+    }
+
+    public String decode(int start, int length) {
+        return new String(read(start, length), 0, length, StandardCharsets.UTF_8);
+    }
+
+    public byte[] read(int start, int length) {
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(scratch.length * 2, length)];
+        }
+        memory.get(start, scratch, 0, length);
+        return scratch;
+    }
+
+    public void move(int from, int to, int length) {
+        if (from != to) {
+            memory.put(to, memory, from, length);
+        }
+    }
+
+    public void truncate(int length) {
+        used = length;
+    }
+
+    private void grow(long required) {
+        if (required > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Word arena is full: distinct words exceed 2 GB.");
+        }
+        long capacity = Math.min(Math.max((long) memory.capacity() * 2, required), Integer.MAX_VALUE);
+        ByteBuffer grown = ByteBuffer.allocateDirect((int) capacity);
+        grown.put(0, memory, 0, used);
+        memory = grown;
+    }
+}
@@ -0,0 +1,185 @@
+package org.lab_1;
+
+import java.util.Arrays;
+
+public class WordCountTable {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private int[] slots = new int[INITIAL_CAPACITY];
+    private int mask = INITIAL_CAPACITY - 1;
+
+    private int[] hashes = new int[INITIAL_CAPACITY / 2];
+    private int[] counts = new int[INITIAL_CAPACITY / 2];
+    private int[] offsets = new int[INITIAL_CAPACITY / 2 + 1];
+    private final WordArena arena = new WordArena(INITIAL_CAPACITY * 8);
+
+    private int size;
+    private long totalCount;
+
+    public int size() { return size; }
+    public long totalCount() { return totalCount; }
+    public int count(int id) { return counts[id]; }
+    public int wordOffset(int id) { return offsets[id]; }
+    public int wordLength(int id) { return offsets[id + 1] - offsets[id]; }
+    public WordArena arena() { return arena; }
+
+    public String word(int id) {
+        return arena.decode(offsets[id], wordLength(id));
+    }
+
+    public int compareByFrequency(int a, int b) {
+        if (counts[a] != counts[b]) {
+            return counts[a] > counts[b] ? -1 : 1;
+        }
+        return arena.compare(offsets[a], wordLength(a), offsets[b], wordLength(b));
+    }
+
+    public int[] idsByFrequency() {
+        int[] ids = new int[size];
+        Arrays.setAll(ids, id -> id);
+        IdSort.sort(ids, this::compareByFrequency);
+        return ids;
+    }
+
+    public int[] idsByWord() {
+        int[] ids = new int[size];
+        Arrays.setAll(ids, id -> id);
+        IdSort.sort(ids, (a, b) -> arena.compare(offsets[a], wordLength(a), offsets[b], wordLength(b)));
+        return ids;
+    }
+
+    public int add(byte[] word, int offset, int length, int delta) {
+        int hash = hash(word, offset, length);
+        int slot = hash & mask;
+        int id;
+
+        while ((id = slots[slot] - 1) >= 0) {
+            if (hashes[id] == hash && matches(id, word, offset, length)) {
+                counts[id] += delta;
+                totalCount += delta;
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        id = insert(word, offset, length, hash, delta);
+        slots[slot] = id + 1;
+        if (size * 4 > slots.length * 3) {
+            rehash(slots.length * 2);
+        }
+        return id;
+    }
+
+    public int find(byte[] word, int offset, int length) {
+        int hash = hash(word, offset, length);
+        int slot = hash & mask;
+        int id;
+
+        while ((id = slots[slot] - 1) >= 0) {
+            if (hashes[id] == hash && matches(id, word, offset, length)) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    public void addAll(WordCountTable other) {
+        for (int id = 0; id < other.size; id++) {
+            int length = other.wordLength(id);
+            add(other.arena.read(other.offsets[id], length), 0, length, other.counts[id]);
+        }
+    }
+
+    public int subtractAll(WordCountTable other) {
+        int zeroed = 0;
+        for (int id = 0; id < other.size; id++) {
+            int length = other.wordLength(id);
+            int target = add(other.arena.read(other.offsets[id], length), 0, length, -other.counts[id]);
+            if (counts[target] == 0) {
+                zeroed++;
+            }
+        }
+        return zeroed;
+    }
+
+    public void clear() {
+        Arrays.fill(slots, 0);
+        arena.truncate(0);
+        size = 0;
+        totalCount = 0;
+    }
+
+    public void removeZeroCounts() {
+        int kept = 0;
+        int keptBytes = 0;
+        for (int id = 0; id < size; id++) {
+            int start = offsets[id];
+            int length = offsets[id + 1] - start;
+            if (counts[id] == 0) {
+                continue;
+            }
+            arena.move(start, keptBytes, length);
+            hashes[kept] = hashes[id];
+            counts[kept] = counts[id];
+            offsets[kept] = keptBytes;
+            keptBytes += length;
+            kept++;
+        }
+        offsets[kept] = keptBytes;
+        arena.truncate(keptBytes);
+        size = kept;
+        rehash(slots.length);
+    }
+
+    public long heapFootprint() {
+        return 4L * (slots.length + hashes.length + counts.length + offsets.length);
+    }
+
+    public long offHeapFootprint() {
+        return arena.capacity();
+    }
+
+    private int insert(byte[] word, int offset, int length, int hash, int delta) {
+        if (size + 1 >= offsets.length) {
+            int capacity = hashes.length * 2;
+            hashes = Arrays.copyOf(hashes, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            offsets = Arrays.copyOf(offsets, capacity + 1);
+        }
+        int start = arena.append(word, offset, length);
+
+        int id = size++;
+        hashes[id] = hash;
+        counts[id] = delta;
+        offsets[size] = start + length;
+        totalCount += delta;
+        return id;
+    }
+
+    private boolean matches(int id, byte[] word, int offset, int length) {
+        int start = offsets[id];
+        return offsets[id + 1] - start == length && arena.matches(start, word, offset, length);
+    }
+
+    private void rehash(int capacity) {
+        slots = new int[capacity];
+        mask = capacity - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = hashes[id] & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id + 1;
+        }
+    }
+
+    private static int hash(byte[] word, int offset, int length) {
+        int h = 1;
+        for (int i = offset; i < offset + length; i++) {
+            h = 31 * h + word[i];
+        }
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -1,43 +1,267 @@
 package org.lab_1;
 
 import java.io.*;
-import java.nio.charset.StandardCharsets;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
 
 public class WordData {
-    private final Map<String, Integer> wordsMap = new HashMap<>();
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+    private static final long MAP_SEGMENT_SIZE = 1L << 28;
+
+    private final WordCountTable wordsTable = new WordCountTable();
+    private final Map<String, TrackedFile> trackedFiles = new LinkedHashMap<>();
+    private NGramCounter nGrams;
+    private PositionIndexBuilder positionIndex;
+    private TokenizerKind tokenizerKind = TokenizerKind.UNICODE;
+
+    public WordCountTable getWordsTable() { return wordsTable; }
+    public NGramCounter getNGrams() { return nGrams; }
+    public void setTokenizerKind(TokenizerKind tokenizerKind) { this.tokenizerKind = tokenizerKind; }
+
+    public void enableNGrams(int maxOrder, int minCount) {
+        nGrams = new NGramCounter(wordsTable, maxOrder, minCount);
+    }
+
+    public void enablePositionIndex() {
+        positionIndex = new PositionIndexBuilder();
+    }
+
+    public void savePositionIndex(String indexFileName) {
+        try {
+            positionIndex.write(indexFileName, wordsTable, tokenizerKind);
+        } catch (IOException e) {
+            System.err.println("Unable to write position index: " + e.getLocalizedMessage());
+        }
+    }
 
     public Set<WordFrequency> getWordsSet() {
-        int totalWords = wordsMap.values().stream().mapToInt(Integer::intValue).sum();
-        return wordsMap.entrySet().stream()
-                .map(e -> new WordFrequency(e.getKey(), e.getValue(), (float) e.getValue() / totalWords * 100))
-                .collect(Collectors.toSet());
+        long totalWords = wordsTable.totalCount();
+        Set<WordFrequency> wordsSet = new HashSet<>();
+        for (int id = 0; id < wordsTable.size(); id++) {
+            int count = wordsTable.count(id);
+            wordsSet.add(new WordFrequency(wordsTable.word(id), count, (float) count / totalWords * 100));
+        }
+        return wordsSet;
+    }
+
+    public List<WordFrequency> getTopWords(int limit) {
+        return topWords(wordsTable, limit);
+    }
+
+    public static List<WordFrequency> topWords(WordCountTable table, int limit) {
+        TopKSelector selector = new TopKSelector(Math.max(1, Math.min(limit, table.size())), table::compareByFrequency);
+        for (int id = 0; id < table.size(); id++) {
+            if (table.count(id) > 0) {
+                selector.offer(id);
+            }
+        }
+
+        long totalWords = table.totalCount();
+        List<WordFrequency> topWords = new ArrayList<>();
+        for (int id : selector.sorted()) {
+            int count = table.count(id);
+            topWords.add(new WordFrequency(table.word(id), count, (float) count / totalWords * 100));
+        }
+        return topWords;
     }
 
     public void processFileData(String inputFileName) {
-        try (BufferedReader fileReader = new BufferedReader(new InputStreamReader(new FileInputStream(inputFileName), StandardCharsets.UTF_8))) {
-            String line;
-            StringBuilder wordBuilder = new StringBuilder();
-
-            while ((line = fileReader.readLine()) != null) {
-                for (char ch : line.toCharArray()) {
-                    if (Character.isLetterOrDigit(ch)) {
-                        wordBuilder.append(ch);
-                    } else if (!wordBuilder.isEmpty()) {
-                        String word = wordBuilder.toString().toLowerCase();
-                        wordsMap.merge(word, 1, Integer::sum);
-                        wordBuilder.setLength(0);
-                    }
+        readWords(inputFileName, false, tokenizerKind, wordSink());
+    }
+
+    public void processMappedFile(String inputFileName) {
+        readWords(inputFileName, true, tokenizerKind, wordSink());
+    }
+
+    private WordSink wordSink() {
+        if (positionIndex != null) {
+            return (PositionSink) (word, length, position) -> positionIndex.add(wordsTable.add(word, 0, length, 1), position);
+        }
+        if (nGrams == null) {
+            return (word, length) -> wordsTable.add(word, 0, length, 1);
+        }
+        nGrams.reset();
+        return nGrams;
+    }
+
+    public static void readWords(String inputFileName, boolean mapped, TokenizerKind tokenizerKind, WordSink sink) {
+        Tokenizer tokenizer = tokenizerKind.create(sink);
+        if (GzipInput.isGzip(Path.of(inputFileName))) {
+            try {
+                GzipInput.tokenize(Path.of(inputFileName), tokenizer);
+            } catch (IOException e) {
+                System.err.println("Unable to read from file: " + e.getLocalizedMessage());
+            }
+            return;
+        }
+        if (mapped) {
+            try (FileChannel channel = FileChannel.open(Path.of(inputFileName), StandardOpenOption.READ)) {
+                tokenizeMapped(channel, new FileChunk(0, channel.size()), tokenizer);
+            } catch (IOException e) {
+                System.err.println("Unable to read from file: " + e.getLocalizedMessage());
+            }
+            return;
+        }
+        try (InputStream input = new FileInputStream(inputFileName)) {
+            tokenize(input, tokenizer);
+        } catch (IOException e) {
+            System.err.println("Unable to read from file: " + e.getLocalizedMessage());
+        }
+    }
+
+    public void loadSnapshot(String snapshotFileName, boolean mapped) {
+        TokenizerKind snapshotKind;
+        try {
+            snapshotKind = WordSnapshot.read(snapshotFileName, wordsTable, trackedFiles);
+        } catch (IOException e) {
+            System.err.println("Unable to load snapshot, counting from scratch: " + e.getLocalizedMessage());
+            wordsTable.clear();
+            trackedFiles.clear();
+            return;
+        }
+        if (snapshotKind != tokenizerKind) {
+            System.err.println("Snapshot was counted with the " + snapshotKind.name().toLowerCase(Locale.ROOT) + " tokenizer, recounting all tracked files.");
+            recountTrackedFiles(null, mapped);
+        }
+    }
+
+    public void saveSnapshot(String snapshotFileName) {
+        try {
+            WordSnapshot.write(snapshotFileName, tokenizerKind, wordsTable, trackedFiles.values());
+        } catch (IOException e) {
+            System.err.println("Unable to save snapshot: " + e.getLocalizedMessage());
+        }
+    }
+
+    public void processFileIncrementally(String inputFileName, boolean mapped) {
+        String path = Path.of(inputFileName).toAbsolutePath().normalize().toString();
+        if (GzipInput.isGzip(Path.of(path))) {
+            System.err.println("Unable to track " + inputFileName + ": --snapshot needs uncompressed input.");
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+            long size = channel.size();
+            TrackedFile tracked = trackedFiles.get(path);
+            long start = 0;
+
+            if (tracked != null) {
+                if (size < tracked.processedLength()
+                        || TrackedFile.checksum(channel, tracked.processedLength()) != tracked.checksum()) {
+                    System.err.println(inputFileName + " was modified since the snapshot, recounting all tracked files.");
+                    recountTrackedFiles(path, mapped);
+                    return;
                 }
+                if (size == tracked.processedLength()) {
+                    return;
+                }
+                start = tracked.wordBoundary();
+                tokenizeChunk(channel, new FileChunk(start, tracked.processedLength()), mapped,
+                        tokenizerKind.create((word, length) -> wordsTable.add(word, 0, length, -1)));
             }
 
-            if (!wordBuilder.isEmpty()) {
-                String word = wordBuilder.toString().toLowerCase();
-                wordsMap.merge(word, 1, Integer::sum);
+            tokenizeChunk(channel, new FileChunk(start, size), mapped,
+                    tokenizerKind.create((word, length) -> wordsTable.add(word, 0, length, 1)));
+            if (tracked != null) {
+                wordsTable.removeZeroCounts();
             }
+            long boundary = FileChunk.lastWordBoundary(channel, start, size);
+            trackedFiles.put(path, new TrackedFile(path, size, boundary, TrackedFile.checksum(channel, size)));
         } catch (IOException e) {
             System.err.println("Unable to read from file: " + e.getLocalizedMessage());
         }
     }
+
+    private void recountTrackedFiles(String modifiedPath, boolean mapped) {
+        List<String> paths = new ArrayList<>(trackedFiles.keySet());
+        wordsTable.clear();
+        trackedFiles.clear();
+        for (String path : paths) {
+            if (path.equals(modifiedPath) || new File(path).isFile()) {
+                processFileIncrementally(path, mapped);
+            } else {
+                System.err.println("Dropping " + path + " from the snapshot: file no longer exists.");
+            }
+        }
+    }
+
+    public void processFiles(List<Path> inputFiles, int threads, boolean mapped, boolean reportProgress) {
+        try {
+            wordsTable.addAll(new FilePipeline(threads, tokenizerKind, mapped, reportProgress).count(inputFiles));
+        } catch (IllegalStateException e) {
+            System.err.println(e.getLocalizedMessage());
+        }
+    }
+
+    public void processFileDataParallel(String inputFileName, int parallelism, boolean mapped) {
+        if (GzipInput.isGzip(Path.of(inputFileName))) {
+            try {
+                wordsTable.addAll(GzipInput.count(Path.of(inputFileName), parallelism, tokenizerKind));
+            } catch (IOException | UncheckedIOException e) {
+                System.err.println("Unable to read from file: " + e.getLocalizedMessage());
+            }
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try (FileChannel channel = FileChannel.open(Path.of(inputFileName), StandardOpenOption.READ)) {
+            List<FileChunk> chunks = FileChunk.split(channel, parallelism * CHUNKS_PER_THREAD);
+            wordsTable.addAll(pool.invoke(new ChunkCountTask(channel, chunks, mapped, tokenizerKind)));
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Unable to read from file: " + e.getLocalizedMessage());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    static WordCountTable countChunk(FileChannel channel, FileChunk chunk, boolean mapped, TokenizerKind tokenizerKind) throws IOException {
+        WordCountTable chunkTable = new WordCountTable();
+        tokenizeChunk(channel, chunk, mapped, tokenizerKind.create((word, length) -> chunkTable.add(word, 0, length, 1)));
+        return chunkTable;
+    }
+
+    private static void tokenizeChunk(FileChannel channel, FileChunk chunk, boolean mapped, Tokenizer tokenizer) throws IOException {
+        if (mapped) {
+            tokenizeMapped(channel, chunk, tokenizer);
+            return;
+        }
+        try (InputStream chunkInput = new ChunkInputStream(channel, chunk)) {
+            tokenize(chunkInput, tokenizer);
+        }
+    }
+
+    static void tokenizeMapped(FileChannel channel, FileChunk chunk, Tokenizer tokenizer) throws IOException {
+        try {
+            for (long position = chunk.start(); position < chunk.end(); position += MAP_SEGMENT_SIZE) {
+                long segmentSize = Math.min(MAP_SEGMENT_SIZE, chunk.end() - position);
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, position, segmentSize);
+                tokenizer.feed(segment);
+            }
+        } finally {
+            tokenizer.finish();
+        }
+    }
+
+    static WordCountTable mergeInto(WordCountTable target, WordCountTable source) {
+        if (target.size() < source.size()) {
+            WordCountTable swap = target;
+            target = source;
+            source = swap;
+        }
+        target.addAll(source);
+        return target;
+    }
+
+    private static void tokenize(InputStream input, Tokenizer tokenizer) throws IOException {
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        int read;
+
+        while ((read = input.read(buffer)) != -1) {
+            tokenizer.feed(buffer, 0, read);
+        }
+        tokenizer.finish();
+    }
 }
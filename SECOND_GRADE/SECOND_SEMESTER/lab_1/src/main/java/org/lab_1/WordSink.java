@@ -0,0 +1,6 @@
+package org.lab_1;
+
+@FunctionalInterface
+public interface WordSink {
+    void accept(byte[] word, int length);
+}
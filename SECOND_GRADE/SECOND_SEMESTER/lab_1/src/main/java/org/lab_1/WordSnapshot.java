@@ -0,0 +1,116 @@
+package org.lab_1;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+public class WordSnapshot {
+    private static final int MAGIC = 0x57465332;
+
+    public static void write(String snapshotFileName, TokenizerKind tokenizerKind, WordCountTable wordsTable,
+                             Collection<TrackedFile> trackedFiles) throws IOException {
+        Path temporary = Path.of(snapshotFileName + ".tmp");
+        try {
+            write(temporary, tokenizerKind, wordsTable, trackedFiles);
+            Files.move(temporary, Path.of(snapshotFileName), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static void write(Path snapshotFile, TokenizerKind tokenizerKind, WordCountTable wordsTable,
+                              Collection<TrackedFile> trackedFiles) throws IOException {
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(snapshotFile)))) {
+            output.writeInt(MAGIC);
+            output.writeUTF(tokenizerKind.name());
+
+            writeVarLong(output, trackedFiles.size());
+            for (TrackedFile file : trackedFiles) {
+                output.writeUTF(file.path());
+                writeVarLong(output, file.processedLength());
+                writeVarLong(output, file.wordBoundary());
+                output.writeLong(file.checksum());
+            }
+
+            WordArena arena = wordsTable.arena();
+            int[] sortedIds = wordsTable.idsByWord();
+
+            writeVarLong(output, sortedIds.length);
+            int previousOffset = 0;
+            int previousLength = 0;
+            for (int id : sortedIds) {
+                int offset = wordsTable.wordOffset(id);
+                int length = wordsTable.wordLength(id);
+                int shared = arena.commonPrefix(previousOffset, previousLength, offset, length);
+                writeVarLong(output, shared);
+                writeVarLong(output, length - shared);
+                output.write(arena.read(offset + shared, length - shared), 0, length - shared);
+                writeVarLong(output, wordsTable.count(id));
+                previousOffset = offset;
+                previousLength = length;
+            }
+        }
+    }
+
+    public static TokenizerKind read(String snapshotFileName, WordCountTable wordsTable, Map<String, TrackedFile> trackedFiles) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(snapshotFileName)))) {
+            if (input.readInt() != MAGIC) {
+                throw new IOException(snapshotFileName + " is not a word frequency snapshot.");
+            }
+            TokenizerKind tokenizerKind;
+            try {
+                tokenizerKind = TokenizerKind.valueOf(input.readUTF());
+            } catch (IllegalArgumentException e) {
+                throw new IOException(snapshotFileName + " was written with an unknown tokenizer.");
+            }
+
+            long fileCount = readVarLong(input);
+            for (long i = 0; i < fileCount; i++) {
+                TrackedFile file = new TrackedFile(input.readUTF(), readVarLong(input), readVarLong(input), input.readLong());
+                trackedFiles.put(file.path(), file);
+            }
+
+            long wordCount = readVarLong(input);
+            byte[] word = new byte[64];
+            for (long i = 0; i < wordCount; i++) {
+                int shared = (int) readVarLong(input);
+                int suffix = (int) readVarLong(input);
+                if (shared + suffix > word.length) {
+                    word = Arrays.copyOf(word, Math.max(word.length * 2, shared + suffix));
+                }
+                input.readFully(word, shared, suffix);
+                wordsTable.add(word, 0, shared + suffix, (int) readVarLong(input));
+            }
+            if (input.read() != -1) {
+                throw new IOException(snapshotFileName + " has trailing data.");
+            }
+            return tokenizerKind;
+        } catch (EOFException e) {
+            throw new IOException(snapshotFileName + " is truncated.", e);
+        }
+    }
+
+    static void writeVarLong(DataOutput output, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput input) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = input.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in snapshot.");
+    }
+}
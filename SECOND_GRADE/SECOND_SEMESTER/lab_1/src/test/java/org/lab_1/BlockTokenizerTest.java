@@ -0,0 +1,49 @@
+package org.lab_1;
+
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlockTokenizerTest {
+    private static ReadableByteChannel failingAfter(String text) {
+        return new ReadableByteChannel() {
+            private boolean sent;
+
+            @Override
+            public int read(ByteBuffer buffer) throws IOException {
+                if (sent) {
+                    throw new IOException("Disk read failed.");
+                }
+                sent = true;
+                byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+                buffer.put(bytes);
+                return bytes.length;
+            }
+
+            @Override
+            public boolean isOpen() { return true; }
+
+            @Override
+            public void close() {}
+        };
+    }
+
+    @Test
+    void testFailedFileDoesNotLeakIntoNextFile() throws IOException {
+        List<String> words = new ArrayList<>();
+        BlockTokenizer tokenizer = new BlockTokenizer(TokenizerKind.UNICODE.create(
+                (word, length) -> words.add(new String(word, 0, length, StandardCharsets.UTF_8))));
+
+        assertThrows(IOException.class, () -> tokenizer.tokenize(failingAfter("first half")));
+        tokenizer.tokenize(Channels.newChannel(new ByteArrayInputStream("next file".getBytes(StandardCharsets.UTF_8))));
+
+        assertEquals(List.of("first", "half", "next", "file"), words, "A word cut off by a read error must not be glued to the next file.");
+    }
+}
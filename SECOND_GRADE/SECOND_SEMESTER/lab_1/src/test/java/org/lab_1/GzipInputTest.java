@@ -0,0 +1,102 @@
+package org.lab_1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GzipInputTest {
+    private static final byte[] FAKE_HEADER = {0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, 3};
+
+    @TempDir
+    Path directory;
+
+    private static byte[] text(Random random, int words, int fakeHeaderEvery) {
+        String[] vocabulary = {"alpha", "beta", "gamma", "Ёлка", "straße", "x", "log42"};
+        ByteArrayOutputStream text = new ByteArrayOutputStream();
+        for (int i = 0; i < words; i++) {
+            text.writeBytes(vocabulary[random.nextInt(vocabulary.length)].getBytes(StandardCharsets.UTF_8));
+            if (fakeHeaderEvery > 0 && i % fakeHeaderEvery == 0) {
+                text.writeBytes(FAKE_HEADER);
+            }
+            text.write(random.nextInt(8) == 0 ? '\n' : ' ');
+        }
+        return text.toByteArray();
+    }
+
+    private static byte[] member(byte[] text, int level) throws IOException {
+        ByteArrayOutputStream member = new ByteArrayOutputStream();
+        try (GZIPOutputStream output = new GZIPOutputStream(member) {{ def.setLevel(level); }}) {
+            output.write(text);
+        }
+        return member.toByteArray();
+    }
+
+    private static Map<String, Integer> counts(WordCountTable table) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int id = 0; id < table.size(); id++) {
+            counts.put(table.word(id), table.count(id));
+        }
+        return counts;
+    }
+
+    @Test
+    void testMultiMemberFileWithFalseHeadersMatchesPlainFile() throws IOException {
+        Random random = new Random(15);
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        Set<Long> memberStarts = new HashSet<>();
+        for (int i = 0; i < 12; i++) {
+            boolean stored = i % 3 == 1;
+            byte[] text = text(random, 30_000, stored ? 50 : 0);
+            plain.writeBytes(text);
+            memberStarts.add((long) compressed.size());
+            compressed.writeBytes(member(text, stored ? Deflater.NO_COMPRESSION : Deflater.DEFAULT_COMPRESSION));
+        }
+        Path plainFile = Files.write(directory.resolve("input.txt"), plain.toByteArray());
+        Path gzipFile = Files.write(directory.resolve("input.txt.gz"), compressed.toByteArray());
+
+        WordData wordData = new WordData();
+        wordData.processFileData(plainFile.toString());
+        Map<String, Integer> expected = counts(wordData.getWordsTable());
+
+        for (int threads : new int[] {1, 2, 4, 8}) {
+            assertEquals(expected, counts(GzipInput.count(gzipFile, threads, TokenizerKind.UNICODE)),
+                    "Parallel decoding with " + threads + " threads should count the same words as the plain file.");
+        }
+        try (FileChannel channel = FileChannel.open(gzipFile, StandardOpenOption.READ)) {
+            List<Long> starts = GzipInput.memberStarts(channel, 16);
+            assertTrue(starts.stream().anyMatch(memberStarts::contains) && !memberStarts.containsAll(starts),
+                    "The scan should find real members and at least one false header.");
+        }
+    }
+
+    @Test
+    void testSingleMemberScanStopsEarly() throws IOException {
+        Random random = new Random(16);
+        byte[] text = text(random, 2_000_000, 0);
+        int middle = text.length * 3 / 4;
+        System.arraycopy(FAKE_HEADER, 0, text, middle, FAKE_HEADER.length);
+        Path gzipFile = Files.write(directory.resolve("single.gz"), member(text, Deflater.NO_COMPRESSION));
+
+        try (FileChannel channel = FileChannel.open(gzipFile, StandardOpenOption.READ)) {
+            assertTrue(channel.size() > (8L << 20), "The fake header should be beyond the probe limit.");
+            assertEquals(List.of(0L), GzipInput.memberStarts(channel, 16),
+                    "A file without a header near the first split point should be decoded as one member.");
+        }
+    }
+}
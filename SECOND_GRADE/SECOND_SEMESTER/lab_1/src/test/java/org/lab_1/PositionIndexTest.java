@@ -0,0 +1,63 @@
+package org.lab_1;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PositionIndexTest {
+    @TempDir
+    Path directory;
+
+    private Path indexFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path input = directory.resolve("input.txt");
+        Files.writeString(input, "one two one three");
+        indexFile = directory.resolve("input.idx");
+
+        WordData wordData = new WordData();
+        wordData.enablePositionIndex();
+        wordData.processFileData(input.toString());
+        wordData.savePositionIndex(indexFile.toString());
+    }
+
+    private void corrupt(int offset, ByteBuffer value) throws IOException {
+        byte[] bytes = Files.readAllBytes(indexFile);
+        value.get(0, bytes, offset, value.capacity());
+        Files.write(indexFile, bytes);
+    }
+
+    @Test
+    void testLookupPositions() throws IOException {
+        try (PositionIndex index = PositionIndex.open(indexFile)) {
+            assertEquals(3, index.size());
+            assertArrayEquals(new long[] {0, 8}, index.positions("one"));
+            assertEquals(TokenizerKind.UNICODE, index.tokenizerKind());
+        }
+    }
+
+    @Test
+    void testUnknownTokenizerIsRejected() throws IOException {
+        corrupt(4, ByteBuffer.allocate(Integer.BYTES).putInt(0, 42));
+        IOException exception = assertThrows(IOException.class, () -> PositionIndex.open(indexFile));
+        assertEquals("Not a position index.", exception.getMessage());
+    }
+
+    @Test
+    void testOffsetsBeyondFileAreRejected() throws IOException {
+        corrupt(24, ByteBuffer.allocate(Long.BYTES).putLong(0, 1L << 40));
+        assertThrows(IOException.class, () -> PositionIndex.open(indexFile));
+    }
+
+    @Test
+    void testNegativeSizeIsRejected() throws IOException {
+        corrupt(8, ByteBuffer.allocate(Integer.BYTES).putInt(0, -1));
+        assertThrows(IOException.class, () -> PositionIndex.open(indexFile));
+    }
+}
@@ -0,0 +1,81 @@
+package org.lab_1;
+
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingWindowTest {
+    static WordCountTable bucket(String... words) {
+        WordCountTable table = new WordCountTable();
+        for (String word : words) {
+            byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+            table.add(bytes, 0, bytes.length, 1);
+        }
+        return table;
+    }
+
+    static Map<String, Integer> counts(WordCountTable table) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int id = 0; id < table.size(); id++) {
+            if (table.count(id) != 0) {
+                counts.put(table.word(id), table.count(id));
+            }
+        }
+        return counts;
+    }
+
+    @Test
+    void testOldSlotsExpire() {
+        SlidingWindow window = new SlidingWindow(60_000, 60);
+        window.add(0, bucket("a"));
+        window.add(30_000, bucket("b", "b"));
+        window.add(59_999, bucket("a"));
+        assertEquals(Map.of("a", 2, "b", 2), counts(window.counts()));
+
+        window.add(60_000, bucket("c"));
+        assertEquals(Map.of("a", 1, "b", 2, "c", 1), counts(window.counts()), "The slot at 0s should have left the window.");
+
+        window.advance(90_500);
+        assertEquals(Map.of("a", 1, "c", 1), counts(window.counts()), "The slot at 30s should have left the window.");
+    }
+
+    @Test
+    void testLateBucketCountsInCurrentSlot() {
+        SlidingWindow window = new SlidingWindow(60_000, 60);
+        window.add(10_000, bucket("a"));
+        window.add(5_000, bucket("a"));
+        window.advance(69_999);
+        assertEquals(Map.of("a", 2), counts(window.counts()));
+        window.advance(70_000);
+        assertEquals(Map.of(), counts(window.counts()));
+    }
+
+    @Test
+    void testZeroCountsAreCompacted() {
+        SlidingWindow window = new SlidingWindow(60_000, 60);
+        String[] words = new String[1000];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = "w" + i;
+        }
+        window.add(0, bucket(words));
+        window.add(1_000, bucket("kept"));
+        window.advance(60_000);
+
+        assertEquals(Map.of("kept", 1), counts(window.counts()));
+        assertEquals(1, window.counts().size(), "Zeroed words should be removed once they are the majority.");
+    }
+
+    @Test
+    void testLongGapExpiresEverything() {
+        SlidingWindow window = new SlidingWindow(60_000, 60);
+        window.add(0, bucket("a"));
+        window.add(59_000, bucket("b"));
+        window.advance(10_000_000);
+        assertEquals(0, window.counts().size());
+
+        window.add(10_000_000, bucket("c"));
+        assertEquals(Map.of("c", 1), counts(window.counts()));
+    }
+}
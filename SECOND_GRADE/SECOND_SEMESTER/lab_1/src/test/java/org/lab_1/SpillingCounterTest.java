@@ -0,0 +1,71 @@
+package org.lab_1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpillingCounterTest {
+    @TempDir
+    Path directory;
+
+    private static String word(int id) {
+        String letters = Integer.toString(id, 26).chars()
+                .mapToObj(ch -> String.valueOf((char) (Character.digit(ch, 26) + 'a')))
+                .reduce("", String::concat);
+        return id % 3 == 0 ? "w" + letters : "x".repeat(60 + id % 50) + letters;
+    }
+
+    @Test
+    void testMultiPassMergeMatchesInMemoryCount() throws IOException {
+        Path input = directory.resolve("input.txt");
+        Random random = new Random(13);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 300_000; i++) {
+            text.append(word(random.nextInt(1 + random.nextInt(20_000)))).append(i % 12 == 0 ? '\n' : ' ');
+        }
+        Files.writeString(input, text);
+
+        Path expected = directory.resolve("expected.csv");
+        WordData wordData = new WordData();
+        wordData.processFileData(input.toString());
+        CSVWriter.writeToFile(expected.toString(), wordData.getWordsTable());
+
+        Path actual = directory.resolve("actual.csv");
+        try (SpillingCounter counter = new SpillingCounter(1, directory)) {
+            WordData.readWords(input.toString(), false, TokenizerKind.UNICODE, counter);
+            assertTrue(counter.runCount() > 64, "Budget should force more runs than one merge pass can take.");
+            counter.writeToFile(actual.toString(), 0);
+        }
+
+        assertEquals(Files.readAllLines(expected), Files.readAllLines(actual),
+                "Spilled and merged counts should match the in-memory count.");
+    }
+
+    @Test
+    void testRunWriterKeepsSharedPrefixWhenGrowing() throws IOException {
+        List<String> words = List.of("a".repeat(10), "a".repeat(100) + "b", "a".repeat(100) + "c");
+        Path run = directory.resolve("run.bin");
+        try (RunWriter writer = new RunWriter(run)) {
+            for (String word : words) {
+                byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+                writer.write(bytes, 0, bytes.length, 1);
+            }
+        }
+        assertEquals(13 + 94 + 4 + 1, Files.size(run), "The third word should only store the byte after the shared prefix.");
+
+        List<String> read = new ArrayList<>();
+        try (RunReader reader = new RunReader(run)) {
+            while (reader.next()) {
+                read.add(new String(reader.word(), 0, reader.length(), StandardCharsets.UTF_8));
+            }
+        }
+        assertEquals(words, read);
+    }
+}
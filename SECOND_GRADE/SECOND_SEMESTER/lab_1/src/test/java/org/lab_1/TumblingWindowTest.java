@@ -0,0 +1,46 @@
+package org.lab_1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lab_1.SlidingWindowTest.bucket;
+import static org.lab_1.SlidingWindowTest.counts;
+
+class TumblingWindowTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testWindowResetsWhenItCloses() {
+        TumblingWindow window = new TumblingWindow(60_000);
+        assertFalse(window.closesAt(0), "Nothing is open before the first bucket.");
+        window.add(1_000, bucket("a"));
+        window.add(59_000, bucket("a", "b"));
+        assertEquals(0, window.windowStart());
+        assertEquals(Map.of("a", 2, "b", 1), counts(window.counts()));
+        assertFalse(window.closesAt(59_999));
+        assertTrue(window.closesAt(60_000));
+
+        window.add(185_000, bucket("c"));
+        assertEquals(180_000, window.windowStart(), "Skipped windows should not shift the next one.");
+        assertEquals(Map.of("c", 1), counts(window.counts()));
+    }
+
+    @Test
+    void testClosedWindowReportsItsOwnEnd() throws IOException {
+        Path output = directory.resolve("out.csv");
+        WindowedCounts windows = new WindowedCounts(output.toString(), 10, List.of(), List.of(60_000L));
+        windows.add(1_000, 2_000, bucket("a"));
+        windows.add(185_000, 186_000, bucket("b"));
+
+        List<String> lines = Files.readAllLines(directory.resolve("out.tumbling-1m.csv"));
+        assertEquals("a,1,100.000", lines.get(1));
+        assertEquals("# window 1970-01-01T00:00:00Z to 1970-01-01T00:01:00Z", lines.get(lines.size() - 1),
+                "The range should end with the closed window, not where the next bucket starts.");
+    }
+}
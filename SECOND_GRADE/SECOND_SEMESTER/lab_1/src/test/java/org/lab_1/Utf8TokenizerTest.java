@@ -0,0 +1,90 @@
+package org.lab_1;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import static org.junit.jupiter.api.Assertions.*;
+
+class Utf8TokenizerTest {
+    private Locale defaultLocale;
+
+    @BeforeEach
+    void setUp() {
+        defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.ROOT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Locale.setDefault(defaultLocale);
+    }
+
+    private static List<String> words(CharClassTable table, String text) {
+        List<String> words = new ArrayList<>();
+        Tokenizer tokenizer = new Utf8Tokenizer((word, length) -> words.add(new String(word, 0, length, StandardCharsets.UTF_8)), table);
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        tokenizer.feed(bytes, 0, bytes.length);
+        tokenizer.finish();
+        return words;
+    }
+
+    @Test
+    void testSharpSIsFolded() {
+        assertEquals(List.of("strasse", "strasse", "strasse", "strasse"),
+                words(CharClassTable.nfcCaseFold(), "STRAẞE straße STRASSE Straße"));
+        assertEquals(List.of("straße", "straße", "strasse"), words(CharClassTable.UNICODE, "STRAẞE straße STRASSE"),
+                "The unicode tokenizer only lowercases.");
+    }
+
+    @Test
+    void testDottedAndDotlessI() {
+        assertEquals(List.of("i̇stanbul", "i̇stanbul"), words(CharClassTable.nfcCaseFold(), "İSTANBUL i̇stanbul"));
+        assertEquals(List.of("i̇stanbul"), words(CharClassTable.UNICODE, "İstanbul"));
+        assertEquals(List.of("ı", "ı", "i", "i"), words(CharClassTable.nfcCaseFold(), "ı ı I i"),
+                "Dotless ı has no case folding and must stay apart from i.");
+    }
+
+    @Test
+    void testFinalSigma() {
+        assertEquals(List.of("οδος", "σοφια"), words(CharClassTable.UNICODE, "ΟΔΟΣ ΣΟΦΙΑ"),
+                "Lowercasing should pick the final form at the end of a word.");
+        assertEquals(List.of("οδοσ", "οδοσ", "οδοσ"), words(CharClassTable.nfcCaseFold(), "ΟΔΟΣ οδος οδοσ"),
+                "Case folding should give every sigma the same key.");
+    }
+
+    @Test
+    void testTurkishLocale() {
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        Utf8Tokenizer tokenizer = new Utf8Tokenizer((word, length) -> {}, CharClassTable.UNICODE);
+        assertTrue(tokenizer.isLocaleSensitive());
+        assertEquals(List.of("tıtle", "istanbul"), words(CharClassTable.UNICODE, "TITLE İstanbul"));
+        assertEquals(List.of("title"), words(CharClassTable.nfcCaseFold(), "TITLE"),
+                "Case folding does not depend on the locale.");
+    }
+
+    @Test
+    void testCombiningMarks() {
+        assertEquals(List.of("café", "café", "café"), words(CharClassTable.nfcCaseFold(), "café café CAFÉ"),
+                "Precomposed and combining forms should be one word.");
+        assertEquals(List.of("cafe"), words(CharClassTable.UNICODE, "café"),
+                "Marks are separators for the unicode tokenizer.");
+        assertEquals(List.of("x"), words(CharClassTable.nfcCaseFold(), "́x"),
+                "A mark cannot start a word.");
+    }
+
+    @Test
+    void testTableFlags() {
+        CharClassTable nfc = CharClassTable.nfcCaseFold();
+        assertEquals(CharClassTable.WORD, nfc.flags('a'));
+        assertEquals(0, nfc.flags(' '));
+        assertEquals(CharClassTable.CONTINUATION | CharClassTable.SPECIAL, nfc.flags(0x0301));
+        assertNotEquals(0, nfc.flags('ß') & CharClassTable.SPECIAL, "ß folds to two letters.");
+        assertNotEquals(0, nfc.flags('ẞ') & CharClassTable.SPECIAL, "ẞ folds to two letters.");
+        assertEquals('σ', nfc.fold('ς'));
+        assertEquals('ı', nfc.fold('ı'));
+    }
+}
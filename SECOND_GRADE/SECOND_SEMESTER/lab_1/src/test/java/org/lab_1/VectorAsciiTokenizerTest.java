@@ -0,0 +1,88 @@
+package org.lab_1;
+
+import org.junit.jupiter.api.Test;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+class VectorAsciiTokenizerTest {
+    private static final String[] ASCII = {"alpha", "Beta", "GAMMA", "x", "log42", "2026", "a_b", "don't", "e-mail"};
+    private static final String[] OTHER = {"Ёлка", "МОСКВА", "straße", "naïve", "ﬁle", "éte", "日本語", "İstanbul", "ΣΟΦΙΑ", "😀"};
+    private static final String[] SEPARATORS = {" ", "  ", "\n", ", ", "\t", ". ", " ", "—"};
+
+    private static String randomText(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        int mode = 0;
+        for (int i = 0; i < words; i++) {
+            if (random.nextInt(200) == 0) {
+                mode = random.nextInt(3);
+            }
+            boolean ascii = switch (mode) {
+                case 0 -> random.nextInt(20) != 0;
+                case 1 -> random.nextInt(20) == 0;
+                default -> random.nextBoolean();
+            };
+            String[] vocabulary = ascii ? ASCII : OTHER;
+            text.append(vocabulary[random.nextInt(vocabulary.length)]);
+            text.append(random.nextInt(10) == 0 ? SEPARATORS[random.nextInt(SEPARATORS.length)] : " ");
+        }
+        return text.toString();
+    }
+
+    private static void tokenize(Tokenizer tokenizer, byte[] text, Random random) {
+        int offset = 0;
+        while (offset < text.length) {
+            int length = Math.min(text.length - offset, 1 + random.nextInt(random.nextBoolean() ? 100 : 5000));
+            if (random.nextBoolean()) {
+                tokenizer.feed(text, offset, length);
+            } else {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+                buffer.put(text, offset, length).flip();
+                tokenizer.feed(buffer);
+            }
+            offset += length;
+        }
+        tokenizer.finish();
+    }
+
+    private static Tokenizer create(TokenizerKind kind, boolean vector, List<String> words) {
+        PositionSink sink = (word, length, position) -> words.add(position + ":" + new String(word, 0, length, StandardCharsets.UTF_8));
+        return vector ? kind.create(sink) : kind.createScalar(sink);
+    }
+
+    @Test
+    void testVectorPathMatchesScalarPath() {
+        assertTrue(TokenizerKind.isVectorized(), "Tests should run with jdk.incubator.vector.");
+        Random random = new Random(17);
+        for (int round = 0; round < 20; round++) {
+            byte[] text = randomText(random, 20_000).getBytes(StandardCharsets.UTF_8);
+            for (TokenizerKind kind : TokenizerKind.values()) {
+                long seed = random.nextLong();
+                List<String> expected = new ArrayList<>();
+                tokenize(create(kind, false, expected), text, new Random(seed));
+                List<String> actual = new ArrayList<>();
+                tokenize(create(kind, true, actual), text, new Random(seed + 1));
+                assertEquals(expected, actual, "Vector and scalar words and positions should match for " + kind + " in round " + round);
+            }
+        }
+    }
+
+    @Test
+    void testTokenizerIsReusableAfterFinish() {
+        List<String> expected = new ArrayList<>();
+        List<String> actual = new ArrayList<>();
+        Tokenizer scalar = create(TokenizerKind.UNICODE, false, expected);
+        Tokenizer vector = create(TokenizerKind.UNICODE, true, actual);
+        Random random = new Random(3);
+        for (int file = 0; file < 5; file++) {
+            byte[] text = randomText(random, 3_000).getBytes(StandardCharsets.UTF_8);
+            long seed = random.nextLong();
+            tokenize(scalar, text, new Random(seed));
+            tokenize(vector, text, new Random(seed));
+        }
+        assertEquals(expected, actual, "Positions should restart at zero for every file.");
+    }
+}
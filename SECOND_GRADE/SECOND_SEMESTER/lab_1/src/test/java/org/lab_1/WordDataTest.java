@@ -0,0 +1,107 @@
+package org.lab_1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordDataTest {
+    @TempDir
+    Path directory;
+
+    private static Map<String, Integer> counts(WordData wordData) {
+        WordCountTable table = wordData.getWordsTable();
+        Map<String, Integer> counts = new HashMap<>();
+        for (int id = 0; id < table.size(); id++) {
+            if (table.count(id) != 0) {
+                counts.put(table.word(id), table.count(id));
+            }
+        }
+        return counts;
+    }
+
+    private static Map<String, Integer> countFromScratch(Path input, TokenizerKind tokenizerKind) {
+        WordData wordData = new WordData();
+        wordData.setTokenizerKind(tokenizerKind);
+        wordData.processFileData(input.toString());
+        return counts(wordData);
+    }
+
+    private Map<String, Integer> runWithSnapshot(Path input, Path snapshot, TokenizerKind tokenizerKind) {
+        WordData wordData = new WordData();
+        wordData.setTokenizerKind(tokenizerKind);
+        if (Files.isRegularFile(snapshot)) {
+            wordData.loadSnapshot(snapshot.toString(), false);
+        }
+        wordData.processFileIncrementally(input.toString(), false);
+        wordData.saveSnapshot(snapshot.toString());
+        return counts(wordData);
+    }
+
+    private static String randomText(Random random, int words) {
+        String[] vocabulary = {"alpha", "beta", "gamma", "delta", "Ёлка", "straße", "x", "naïve"};
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            text.append(vocabulary[random.nextInt(vocabulary.length)]).append(random.nextInt(4) == 0 ? ",\n" : " ");
+        }
+        return text.toString();
+    }
+
+    @Test
+    void testAppendRunsMatchCountFromScratch() throws IOException {
+        Path input = directory.resolve("input.txt");
+        Path snapshot = directory.resolve("counts.bin");
+        Random random = new Random(42);
+
+        Files.writeString(input, randomText(random, 50_000) + "gam");
+        runWithSnapshot(input, snapshot, TokenizerKind.UNICODE);
+        for (int i = 0; i < 5; i++) {
+            Files.writeString(input, "ma " + randomText(random, 10_000) + "del", StandardOpenOption.APPEND);
+            assertEquals(countFromScratch(input, TokenizerKind.UNICODE), runWithSnapshot(input, snapshot, TokenizerKind.UNICODE),
+                    "Counting only the appended part should give the same counts as counting the whole file.");
+            Files.writeString(input, "ta", StandardOpenOption.APPEND);
+        }
+    }
+
+    @Test
+    void testUnchangedFileIsNotCountedTwice() throws IOException {
+        Path input = directory.resolve("input.txt");
+        Path snapshot = directory.resolve("counts.bin");
+        Files.writeString(input, "one two two");
+
+        runWithSnapshot(input, snapshot, TokenizerKind.UNICODE);
+        assertEquals(Map.of("one", 1, "two", 2), runWithSnapshot(input, snapshot, TokenizerKind.UNICODE));
+    }
+
+    @Test
+    void testTruncatedSnapshotIsRecounted() throws IOException {
+        Path input = directory.resolve("input.txt");
+        Path snapshot = directory.resolve("counts.bin");
+        Files.writeString(input, randomText(new Random(7), 5_000));
+        runWithSnapshot(input, snapshot, TokenizerKind.UNICODE);
+
+        byte[] bytes = Files.readAllBytes(snapshot);
+        Files.write(snapshot, Arrays.copyOf(bytes, bytes.length / 2));
+        assertEquals(countFromScratch(input, TokenizerKind.UNICODE), runWithSnapshot(input, snapshot, TokenizerKind.UNICODE),
+                "A truncated snapshot must not leave partial counts behind.");
+    }
+
+    @Test
+    void testTokenizerChangeForcesRecount() throws IOException {
+        Path input = directory.resolve("input.txt");
+        Path snapshot = directory.resolve("counts.bin");
+        Files.writeString(input, "Straße STRASSE ﬁle file");
+        runWithSnapshot(input, snapshot, TokenizerKind.UNICODE);
+
+        assertNotEquals(countFromScratch(input, TokenizerKind.UNICODE), countFromScratch(input, TokenizerKind.NFC));
+        assertEquals(countFromScratch(input, TokenizerKind.NFC), runWithSnapshot(input, snapshot, TokenizerKind.NFC),
+                "Counts from another tokenizer must not be merged.");
+    }
+}
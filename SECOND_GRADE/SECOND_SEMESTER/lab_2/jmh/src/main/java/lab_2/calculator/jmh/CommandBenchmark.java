@@ -0,0 +1,49 @@
+package lab_2.calculator.jmh;
+
+import lab_2.calculator.commands.AddCommand;
+import lab_2.calculator.commands.Command;
+import lab_2.calculator.commands.MultiplyCommand;
+import lab_2.calculator.context.ExecutionContext;
+import lab_2.calculator.exceptions.CalculatorException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CommandBenchmark {
+    private static final int OPERATIONS = 1000;
+    private static final List<String> NO_ARGS = List.of();
+
+    @Param({"ADD", "MULTIPLY"})
+    public String command;
+
+    @Param({"off", "async"})
+    public String logging;
+
+    private Command operation;
+    private ExecutionContext context;
+
+    @Setup(Level.Trial)
+    public void createCommand() {
+        System.setProperty("log4j.configurationFile", "log4j2-benchmark-" + logging + ".xml");
+        operation = command.equals("ADD") ? new AddCommand() : new MultiplyCommand();
+        context = new ExecutionContext();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public double execute() throws CalculatorException {
+        context.push(1.0);
+        for (int i = 0; i < OPERATIONS; i++) {
+            context.push(1.0000001);
+            operation.execute(context, NO_ARGS);
+        }
+        return context.pop();
+    }
+}
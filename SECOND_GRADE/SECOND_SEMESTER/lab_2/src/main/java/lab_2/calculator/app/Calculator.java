@@ -2,20 +2,25 @@ package lab_2.calculator.app;
 
 import lab_2.calculator.context.ExecutionContext;
 import lab_2.calculator.factory.CommandFactory;
-import lab_2.calculator.commands.Command;
 import lab_2.calculator.logger.CalculatorLogger;
+import lab_2.calculator.program.Program;
+import lab_2.calculator.program.ProgramOptimizer;
+import lab_2.calculator.program.ScriptCompiler;
 import org.apache.logging.log4j.Logger;
 import java.io.*;
-import java.util.List;
 
 public class Calculator {
     private static final Logger logger = CalculatorLogger.getLogger();
     private ExecutionContext context;
     private CommandFactory factory;
+    private ScriptCompiler compiler;
 
-    public Calculator() {
+    public Calculator() { this(new CommandFactory()); }
+
+    public Calculator(CommandFactory factory) {
         this.context = new ExecutionContext();
-        this.factory = new CommandFactory();
+        this.factory = factory;
+        this.compiler = new ScriptCompiler(factory);
     }
 
     public void start(BufferedReader reader) {
@@ -29,20 +34,18 @@ public class Calculator {
         }
     }
 
-    private void processCommand(String line) {
-        line = line.trim();
-        if (line.isEmpty() || line.startsWith("#")) { return; }
+    public Program compile(BufferedReader reader) throws IOException {
+        Program program = compiler.compile(reader);
+        Program optimized = ProgramOptimizer.optimize(program);
+        logger.info("Optimized script: {} of {} instructions eliminated", program.size() - optimized.size(), program.size());
+        return optimized;
+    }
 
-        String[] parts = line.split("\\s+");
-        String commandName = parts[0];
-        List<String> args = List.of(parts).subList(1, parts.length);
+    public void run(Program program) {
+        program.execute(context);
+    }
 
-        try {
-            Command command = factory.createCommand(commandName);
-            command.execute(context, args);
-            logger.info("Executed command: {}", commandName);
-        } catch (Exception e) {
-            logger.error("Error executing command: {} | {}", commandName, e.getMessage());
-        }
+    private void processCommand(String line) {
+        run(compiler.compile(line));
     }
-}
\ No newline at end of file
+}
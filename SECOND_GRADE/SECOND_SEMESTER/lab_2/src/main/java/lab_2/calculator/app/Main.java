@@ -1,8 +1,18 @@
 package lab_2.calculator.app;
+import lab_2.calculator.batch.BatchRunner;
+import lab_2.calculator.batch.ScriptResult;
+import lab_2.calculator.columnar.ColumnTable;
+import lab_2.calculator.columnar.ColumnarCompiler;
+import lab_2.calculator.columnar.ColumnarProgram;
+import lab_2.calculator.factory.CommandFactory;
 import lab_2.calculator.logger.CalculatorLogger;
+import lab_2.calculator.plugins.PluginRegistry;
 import org.apache.logging.log4j.Logger;
 
 import java.io.*;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 
 public class Main {
     private static final Logger logger = CalculatorLogger.getLogger();
@@ -10,23 +20,111 @@ public class Main {
     public static void main(String[] args) {
         logger.info("Starting calculator...");
 
-        Calculator calculator = new Calculator();
+        CommandFactory factory = new CommandFactory();
+        if (args.length > 0 && args[0].equals("--plugins")) {
+            if (args.length < 2) {
+                logger.error("Usage: --plugins <directory> [arguments]");
+                return;
+            }
+            try (PluginRegistry plugins = new PluginRegistry(Path.of(args[1]), factory)) {
+                plugins.start();
+                run(Arrays.copyOfRange(args, 2, args.length), factory);
+            } catch (IOException e) {
+                logger.error("Error: Cannot watch plugin directory {}: {}", args[1], e.getMessage());
+            }
+            return;
+        }
+        run(args, factory);
+    }
+
+    private static void run(String[] args, CommandFactory factory) {
+        if (args.length > 0 && args[0].equals("--batch")) {
+            runBatch(args, factory);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--columnar")) {
+            runColumnar(args, factory);
+            return;
+        }
+
+        Calculator calculator = new Calculator(factory);
 
-        BufferedReader reader;
         if (args.length > 0) {
-            try {
-                reader = new BufferedReader(new FileReader(args[0]));
+            try (BufferedReader reader = new BufferedReader(new FileReader(args[0]))) {
                 logger.info("Reading commands from file: {}", args[0]);
+                calculator.run(calculator.compile(reader));
             } catch (FileNotFoundException e) {
                 logger.error("Error: File not found - {}", args[0]);
-                return;
+            } catch (IOException e) {
+                logger.error("Error reading input: {}", e.getMessage());
             }
         }
         else {
-            reader = new BufferedReader(new InputStreamReader(System.in));
+            BufferedReader reader = new BufferedReader(new InputStreamReader(System.in));
             logger.info("Reading commands from standard input...");
+            calculator.start(reader);
+        }
+    }
+
+    private static void runBatch(String[] args, CommandFactory factory) {
+        int threads = Runtime.getRuntime().availableProcessors();
+        if (args.length == 4 && args[2].equals("--threads")) {
+            try {
+                threads = Integer.parseInt(args[3]);
+            } catch (NumberFormatException e) {
+                logger.error("Error: '{}' is not a valid number of threads.", args[3]);
+                return;
+            }
+        } else if (args.length != 2) {
+            logger.error("Usage: --batch <directory|manifest> [--threads N]");
+            return;
         }
 
-        calculator.start(reader);
+        try {
+            List<Path> scripts = BatchRunner.listScripts(Path.of(args[1]));
+            logger.info("Running {} scripts from {}, threads: {}", scripts.size(), args[1], threads);
+            int[] failed = new int[1];
+            long[] eliminated = new long[1];
+            long start = System.nanoTime();
+            new BatchRunner(factory, threads).run(scripts, result -> {
+                report(result);
+                failed[0] += result.hasErrors() ? 1 : 0;
+                eliminated[0] += result.eliminated();
+            });
+            System.out.printf("# %d scripts, %d with errors, %d instructions eliminated, %.3f s%n",
+                    scripts.size(), failed[0], eliminated[0], (System.nanoTime() - start) / 1e9);
+        } catch (IOException e) {
+            logger.error("Error reading input: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            logger.error(e.getMessage());
+        }
+    }
+
+    private static void runColumnar(String[] args, CommandFactory factory) {
+        if (args.length != 4) {
+            logger.error("Usage: --columnar <script> <input.csv> <output.csv>");
+            return;
+        }
+        try (BufferedReader script = new BufferedReader(new FileReader(args[1]));
+             BufferedReader input = new BufferedReader(new FileReader(args[2]))) {
+            ColumnarProgram program = new ColumnarCompiler(factory).compile(script);
+            ColumnTable table = ColumnTable.read(input);
+            logger.info("Running {} over {} rows from {}", args[1], table.rows(), args[2]);
+            ColumnTable result = program.execute(table);
+            try (Writer output = new FileWriter(args[3])) {
+                result.write(output);
+            }
+            logger.info("Wrote {} columns to {}", result.columns().size(), args[3]);
+        } catch (IOException e) {
+            logger.error("Error reading input: {}", e.getMessage());
+        }
+    }
+
+    private static void report(ScriptResult result) {
+        System.out.println("== " + result.script());
+        System.out.print(result.output());
+        for (String error : result.errors()) {
+            System.out.println("! " + error);
+        }
     }
-}
\ No newline at end of file
+}
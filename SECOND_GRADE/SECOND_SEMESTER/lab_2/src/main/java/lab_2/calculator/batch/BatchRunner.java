@@ -0,0 +1,92 @@
+package lab_2.calculator.batch;
+
+import lab_2.calculator.context.ExecutionContext;
+import lab_2.calculator.factory.CommandFactory;
+import lab_2.calculator.program.Program;
+import lab_2.calculator.program.ProgramOptimizer;
+import lab_2.calculator.program.ScriptCompiler;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class BatchRunner {
+    private static final int QUEUED_PER_THREAD = 64;
+
+    private final ScriptCompiler compiler;
+    private final int threads;
+
+    public BatchRunner(CommandFactory factory, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Error: Number of threads must be positive.");
+        }
+        this.compiler = new ScriptCompiler(factory);
+        this.threads = threads;
+    }
+
+    public static List<Path> listScripts(Path source) throws IOException {
+        if (Files.isDirectory(source)) {
+            try (Stream<Path> files = Files.walk(source)) {
+                return files.filter(Files::isRegularFile).sorted().toList();
+            }
+        }
+        Path base = source.toAbsolutePath().getParent();
+        List<Path> scripts = new ArrayList<>();
+        for (String line : Files.readAllLines(source)) {
+            line = line.trim();
+            if (!line.isEmpty() && !line.startsWith("#")) {
+                scripts.add(base.resolve(line));
+            }
+        }
+        return scripts;
+    }
+
+    public void run(List<Path> scripts, Consumer<ScriptResult> results) {
+        ExecutorService pool = Executors.newWorkStealingPool(threads);
+        try {
+            Deque<Future<ScriptResult>> pending = new ArrayDeque<>();
+            int next = 0;
+            while (next < scripts.size() || !pending.isEmpty()) {
+                while (next < scripts.size() && pending.size() < threads * QUEUED_PER_THREAD) {
+                    Path script = scripts.get(next++);
+                    pending.add(pool.submit(() -> execute(script)));
+                }
+                results.accept(result(pending.poll()));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    public ScriptResult execute(Path script) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        List<String> errors = new ArrayList<>();
+        int eliminated = 0;
+        try (BufferedReader reader = new BufferedReader(new FileReader(script.toFile()))) {
+            Program program = compiler.compile(reader);
+            Program optimized = ProgramOptimizer.optimize(program);
+            eliminated = program.size() - optimized.size();
+            optimized.execute(new ExecutionContext(new PrintStream(output)), errors);
+        } catch (IOException e) {
+            errors.add("Error reading input: " + e.getMessage());
+        }
+        return new ScriptResult(script, output.toString(), errors, eliminated);
+    }
+
+    private static ScriptResult result(Future<ScriptResult> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Error: Batch execution was interrupted.");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error: Script execution failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package lab_2.calculator.batch;
+
+import java.nio.file.Path;
+import java.util.List;
+
+public record ScriptResult(Path script, String output, List<String> errors, int eliminated) {
+    public boolean hasErrors() { return !errors.isEmpty(); }
+}
@@ -0,0 +1,73 @@
+package lab_2.calculator.columnar;
+
+import java.util.*;
+
+public class ColumnContext {
+    private final int rows;
+    private final Map<String, double[]> variables;
+    private final Deque<double[]> free = new ArrayDeque<>();
+    private final List<double[]> printed = new ArrayList<>();
+    private double[][] stack = new double[16][];
+    private boolean[] owned = new boolean[16];
+    private int size;
+
+    public ColumnContext(ColumnTable input) {
+        rows = input.rows();
+        variables = new HashMap<>(input.columns());
+    }
+
+    public int rows() { return rows; }
+    public int getStackSize() { return size; }
+    public List<double[]> printed() { return printed; }
+
+    public boolean hasVariable(String name) { return variables.containsKey(name); }
+    public double[] getVariable(String name) { return variables.get(name); }
+
+    public void defineVariable(String name, double value) {
+        double[] column = new double[rows];
+        Arrays.fill(column, value);
+        variables.put(name, column);
+    }
+
+    public void push(double[] column, boolean isOwned) {
+        if (size == stack.length) {
+            stack = Arrays.copyOf(stack, size * 2);
+            owned = Arrays.copyOf(owned, size * 2);
+        }
+        stack[size] = column;
+        owned[size++] = isOwned;
+    }
+
+    public boolean isTopOwned() { return owned[size - 1]; }
+
+    public double[] pop() {
+        if (size == 0) {
+            throw new IllegalStateException("Error: Cannot pop from an empty stack.");
+        }
+        double[] column = stack[--size];
+        stack[size] = null;
+        return column;
+    }
+
+    public double[] getTop() {
+        if (size == 0) {
+            throw new IllegalStateException("Error: Stack is empty, cannot retrieve top element.");
+        }
+        return stack[size - 1];
+    }
+
+    public void print() {
+        double[] top = getTop();
+        owned[size - 1] = false;
+        printed.add(top);
+    }
+
+    public double[] allocate() {
+        double[] column = free.poll();
+        return column != null ? column : new double[rows];
+    }
+
+    public void release(double[] column) {
+        free.push(column);
+    }
+}
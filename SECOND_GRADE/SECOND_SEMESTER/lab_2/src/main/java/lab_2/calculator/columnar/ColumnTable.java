@@ -0,0 +1,102 @@
+package lab_2.calculator.columnar;
+
+import java.io.*;
+import java.util.*;
+
+public class ColumnTable {
+    private final Map<String, double[]> columns;
+    private final int rows;
+
+    public ColumnTable(Map<String, double[]> columns, int rows) {
+        for (Map.Entry<String, double[]> column : columns.entrySet()) {
+            if (column.getValue().length != rows) {
+                throw new IllegalArgumentException("Error: Column '" + column.getKey() + "' has "
+                        + column.getValue().length + " rows instead of " + rows + ".");
+            }
+        }
+        this.columns = Collections.unmodifiableMap(new LinkedHashMap<>(columns));
+        this.rows = rows;
+    }
+
+    public int rows() { return rows; }
+    public Map<String, double[]> columns() { return columns; }
+    public double[] column(String name) { return columns.get(name); }
+
+    public static ColumnTable read(BufferedReader reader) throws IOException {
+        String header = reader.readLine();
+        if (header == null) {
+            throw new IOException("Error: Input table is empty.");
+        }
+        String[] names = header.split(",", -1);
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < names.length; i++) {
+            names[i] = names[i].trim();
+            if (!seen.add(names[i])) {
+                throw new IOException("Error: Column '" + names[i] + "' appears more than once in the header.");
+            }
+        }
+
+        double[][] values = new double[names.length][1024];
+        int rows = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (rows == values[0].length) {
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = Arrays.copyOf(values[i], rows * 2);
+                }
+            }
+            int start = 0;
+            for (int i = 0; i < names.length; i++) {
+                int end = line.indexOf(',', start);
+                if (i + 1 == names.length && end < 0) {
+                    end = line.length();
+                } else if (i + 1 == names.length || end < 0) {
+                    throw new IOException("Error: Row " + (rows + 1) + " does not have " + names.length + " values.");
+                }
+                values[i][rows] = parseValue(line.substring(start, end).trim(), rows + 1, names[i]);
+                start = end + 1;
+            }
+            rows++;
+        }
+
+        Map<String, double[]> columns = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            columns.put(names[i], Arrays.copyOf(values[i], rows));
+        }
+        return new ColumnTable(columns, rows);
+    }
+
+    public void write(Writer writer) throws IOException {
+        BufferedWriter output = new BufferedWriter(writer, 1 << 16);
+        output.write(String.join(",", columns.keySet()));
+        output.newLine();
+        double[][] values = columns.values().toArray(new double[0][]);
+        StringBuilder row = new StringBuilder();
+        for (int r = 0; r < rows; r++) {
+            row.setLength(0);
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    row.append(',');
+                }
+                row.append(values[i][r]);
+            }
+            output.append(row);
+            output.newLine();
+        }
+        output.flush();
+    }
+
+    private static double parseValue(String value, int row, String column) throws IOException {
+        if (value.isEmpty()) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IOException("Error: '" + value + "' in row " + row + ", column '" + column + "' is not a valid number.");
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package lab_2.calculator.columnar;
+
+import lab_2.calculator.commands.*;
+import lab_2.calculator.factory.CommandFactory;
+import lab_2.calculator.program.ScriptCompiler;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.*;
+
+public class ColumnarCompiler {
+    private static final Map<Class<? extends Command>, Integer> OPCODES = Map.of(
+            PopCommand.class, ColumnarProgram.POP,
+            AddCommand.class, ColumnarProgram.ADD,
+            SubtractCommand.class, ColumnarProgram.SUBTRACT,
+            MultiplyCommand.class, ColumnarProgram.MULTIPLY,
+            DivideCommand.class, ColumnarProgram.DIVIDE,
+            SqrtCommand.class, ColumnarProgram.SQRT,
+            PrintCommand.class, ColumnarProgram.PRINT);
+
+    private final CommandFactory factory;
+
+    public ColumnarCompiler(CommandFactory factory) { this.factory = factory; }
+
+    public ColumnarProgram compile(BufferedReader reader) throws IOException {
+        int[] code = new int[64];
+        int length = 0;
+        List<String> names = new ArrayList<>();
+        Map<Double, Integer> constants = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        List<List<String>> defines = new ArrayList<>();
+        DefineCommand define = null;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String[] parts = ScriptCompiler.parseLine(line);
+            if (parts.length == 0) {
+                continue;
+            }
+            int opcode;
+            int operand = 0;
+            try {
+                Command command = factory.createCommand(parts[0]);
+                if (command instanceof CommentCommand) {
+                    continue;
+                }
+                if (command.getClass() == PushCommand.class && parts.length > 1) {
+                    try {
+                        double value = Double.parseDouble(parts[1]);
+                        opcode = ColumnarProgram.PUSH_CONSTANT;
+                        operand = constants.computeIfAbsent(value, key -> constants.size());
+                    } catch (NumberFormatException e) {
+                        opcode = ColumnarProgram.PUSH_VARIABLE;
+                        operand = strings.size();
+                        strings.add(parts[1]);
+                    }
+                } else if (command.getClass() == PushCommand.class) {
+                    opcode = ColumnarProgram.FAIL;
+                    operand = strings.size();
+                    strings.add("Push command requires exactly one argument.");
+                } else if (command.getClass() == DefineCommand.class) {
+                    define = (DefineCommand) command;
+                    opcode = ColumnarProgram.DEFINE;
+                    operand = defines.size();
+                    defines.add(List.of(parts).subList(1, parts.length));
+                } else if (OPCODES.containsKey(command.getClass())) {
+                    opcode = OPCODES.get(command.getClass());
+                } else {
+                    opcode = ColumnarProgram.FAIL;
+                    operand = strings.size();
+                    strings.add("Error: Command '" + parts[0] + "' is not supported in columnar mode.");
+                }
+            } catch (IllegalArgumentException e) {
+                opcode = ColumnarProgram.FAIL;
+                operand = strings.size();
+                strings.add(e.getMessage());
+            }
+
+            if (length + 2 > code.length) {
+                code = Arrays.copyOf(code, code.length * 2);
+            }
+            code[length++] = opcode;
+            code[length++] = operand;
+            names.add(parts[0]);
+        }
+
+        double[] constantPool = new double[constants.size()];
+        constants.forEach((value, index) -> constantPool[index] = value);
+        return new ColumnarProgram(Arrays.copyOf(code, length), names.toArray(new String[0]), constantPool,
+                strings.toArray(new String[0]), defines, define);
+    }
+}
@@ -0,0 +1,217 @@
+package lab_2.calculator.columnar;
+
+import lab_2.calculator.commands.DefineCommand;
+import lab_2.calculator.context.ExecutionContext;
+import lab_2.calculator.exceptions.CalculatorException;
+import lab_2.calculator.exceptions.InvalidArgumentException;
+import lab_2.calculator.exceptions.StackUnderflowException;
+import lab_2.calculator.exceptions.UnknownCommandException;
+import lab_2.calculator.logger.CalculatorLogger;
+import org.apache.logging.log4j.Logger;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ColumnarProgram {
+    static final int PUSH_CONSTANT = 0;
+    static final int PUSH_VARIABLE = 1;
+    static final int DEFINE = 2;
+    static final int POP = 3;
+    static final int ADD = 4;
+    static final int SUBTRACT = 5;
+    static final int MULTIPLY = 6;
+    static final int DIVIDE = 7;
+    static final int SQRT = 8;
+    static final int PRINT = 9;
+    static final int FAIL = 10;
+
+    private static final Logger logger = CalculatorLogger.getLogger();
+
+    private final int[] code;
+    private final String[] names;
+    private final double[] constants;
+    private final String[] strings;
+    private final List<List<String>> defines;
+    private final DefineCommand define;
+
+    ColumnarProgram(int[] code, String[] names, double[] constants, String[] strings, List<List<String>> defines, DefineCommand define) {
+        this.code = code;
+        this.names = names;
+        this.constants = constants;
+        this.strings = strings;
+        this.defines = defines;
+        this.define = define;
+    }
+
+    public int size() { return names.length; }
+
+    public ColumnTable execute(ColumnTable input) {
+        ColumnContext context = new ColumnContext(input);
+        for (int pc = 0; pc < code.length; pc += 2) {
+            try {
+                execute(context, code[pc], code[pc + 1]);
+                if (CalculatorLogger.HOT_PATH_INFO) {
+                    logger.info("Executed command: {}", names[pc >> 1]);
+                }
+            } catch (Exception e) {
+                logger.error("Error executing command: {} | {}", names[pc >> 1], e.getMessage());
+            }
+        }
+
+        Map<String, double[]> output = new LinkedHashMap<>();
+        for (double[] column : context.printed()) {
+            output.put("print_" + (output.size() + 1), column);
+        }
+        return new ColumnTable(output, context.rows());
+    }
+
+    private void execute(ColumnContext context, int opcode, int operand) throws CalculatorException {
+        switch (opcode) {
+            case PUSH_CONSTANT -> {
+                double[] column = context.allocate();
+                fill(column, constants[operand], context.rows());
+                context.push(column, true);
+            }
+            case PUSH_VARIABLE -> {
+                if (!context.hasVariable(strings[operand])) {
+                    throw new InvalidArgumentException("Error: '" + strings[operand] + "' is not a number or a defined variable.");
+                }
+                context.push(context.getVariable(strings[operand]), false);
+            }
+            case DEFINE -> {
+                ExecutionContext scalar = new ExecutionContext();
+                define.execute(scalar, defines.get(operand));
+                String name = defines.get(operand).get(0);
+                context.defineVariable(name, scalar.getVariable(name));
+            }
+            case POP -> {
+                requireStack(context, 1, "POP");
+                boolean owned = context.isTopOwned();
+                double[] column = context.pop();
+                if (owned) {
+                    context.release(column);
+                }
+            }
+            case SQRT -> {
+                requireStack(context, 1, "SQRT");
+                boolean owned = context.isTopOwned();
+                double[] a = context.pop();
+                double[] result = owned ? a : context.allocate();
+                int negative = countNegative(a, context.rows());
+                sqrt(a, result, context.rows());
+                context.push(result, true);
+                if (negative > 0) {
+                    logger.warn("SQRT: {} rows are negative, their results are NaN.", negative);
+                }
+            }
+            case PRINT -> {
+                requireStack(context, 1, "PRINT");
+                context.print();
+            }
+            case FAIL -> throw new UnknownCommandException(strings[operand]);
+            default -> binary(context, opcode);
+        }
+    }
+
+    private void binary(ColumnContext context, int opcode) throws StackUnderflowException {
+        String name = switch (opcode) {
+            case ADD -> "ADD";
+            case SUBTRACT -> "SUBTRACT";
+            case MULTIPLY -> "MULTIPLY";
+            default -> "DIVIDE";
+        };
+        requireStack(context, 2, name);
+        int rows = context.rows();
+        boolean bOwned = context.isTopOwned();
+        double[] b = context.pop();
+        boolean aOwned = context.isTopOwned();
+        double[] a = context.pop();
+        double[] result = aOwned ? a : bOwned ? b : context.allocate();
+
+        switch (opcode) {
+            case ADD -> add(a, b, result, rows);
+            case SUBTRACT -> subtract(a, b, result, rows);
+            case MULTIPLY -> multiply(a, b, result, rows);
+            default -> {
+                int zeros = countZero(b, rows);
+                if (zeros == 0) {
+                    divide(a, b, result, rows);
+                } else {
+                    divideChecked(a, b, result, rows);
+                    logger.warn("DIVIDE: {} rows are divided by zero, their results are NaN.", zeros);
+                }
+            }
+        }
+        context.push(result, true);
+        if (aOwned && result != a) {
+            context.release(a);
+        }
+        if (bOwned && result != b) {
+            context.release(b);
+        }
+    }
+
+    private static void requireStack(ColumnContext context, int required, String command) throws StackUnderflowException {
+        if (context.getStackSize() < required) {
+            throw new StackUnderflowException("Error: " + command + " requires at least " + (required == 1 ? "one element" : "two elements") + " on the stack.");
+        }
+    }
+
+    private static void fill(double[] result, double value, int rows) {
+        for (int i = 0; i < rows; i++) {
+            result[i] = value;
+        }
+    }
+
+    private static void add(double[] a, double[] b, double[] result, int rows) {
+        for (int i = 0; i < rows; i++) {
+            result[i] = a[i] + b[i];
+        }
+    }
+
+    private static void subtract(double[] a, double[] b, double[] result, int rows) {
+        for (int i = 0; i < rows; i++) {
+            result[i] = a[i] - b[i];
+        }
+    }
+
+    private static void multiply(double[] a, double[] b, double[] result, int rows) {
+        for (int i = 0; i < rows; i++) {
+            result[i] = a[i] * b[i];
+        }
+    }
+
+    private static void divide(double[] a, double[] b, double[] result, int rows) {
+        for (int i = 0; i < rows; i++) {
+            result[i] = a[i] / b[i];
+        }
+    }
+
+    private static void divideChecked(double[] a, double[] b, double[] result, int rows) {
+        for (int i = 0; i < rows; i++) {
+            result[i] = b[i] == 0.0 ? Double.NaN : a[i] / b[i];
+        }
+    }
+
+    private static void sqrt(double[] a, double[] result, int rows) {
+        for (int i = 0; i < rows; i++) {
+            result[i] = Math.sqrt(a[i]);
+        }
+    }
+
+    private static int countZero(double[] a, int rows) {
+        int count = 0;
+        for (int i = 0; i < rows; i++) {
+            count += a[i] == 0.0 ? 1 : 0;
+        }
+        return count;
+    }
+
+    private static int countNegative(double[] a, int rows) {
+        int count = 0;
+        for (int i = 0; i < rows; i++) {
+            count += a[i] < 0.0 ? 1 : 0;
+        }
+        return count;
+    }
+}
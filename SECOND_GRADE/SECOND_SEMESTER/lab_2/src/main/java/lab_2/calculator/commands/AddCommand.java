@@ -4,6 +4,7 @@ import lab_2.calculator.logger.CalculatorLogger;
 import lab_2.calculator.exceptions.StackUnderflowException;
 import org.apache.logging.log4j.Logger;
 import java.util.List;
+import static org.apache.logging.log4j.util.Unbox.box;
 
 public class AddCommand implements Command {
     private static final Logger logger = CalculatorLogger.getLogger();
@@ -21,6 +22,8 @@ public class AddCommand implements Command {
         double result = a + b;
 
         context.push(result);
-        logger.info("ADD executed: {} + {} = {}", a, b, result);
+        if (CalculatorLogger.HOT_PATH_INFO) {
+            logger.info("ADD executed: {} + {} = {}", box(a), box(b), box(result));
+        }
     }
 }
\ No newline at end of file
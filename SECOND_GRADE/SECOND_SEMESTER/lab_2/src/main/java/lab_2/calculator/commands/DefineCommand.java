@@ -6,6 +6,7 @@ import org.apache.logging.log4j.Logger;
 import lab_2.calculator.logger.CalculatorLogger;
 import java.util.List;
 import java.util.regex.Pattern;
+import static org.apache.logging.log4j.util.Unbox.box;
 
 public class DefineCommand implements Command {
     private static final Logger logger = CalculatorLogger.getLogger();
@@ -21,7 +22,7 @@ public class DefineCommand implements Command {
         String variableName = args.get(0);
         String valueString = args.get(1);
 
-        if (!VALID_VARIABLE_PATTERN.matcher(variableName).matches()) {
+        if (!isValidName(variableName)) {
             logger.error("DEFINE operation failed: Invalid variable name '{}'.", variableName);
             throw new InvalidArgumentException("Invalid variable name: '" + variableName + "'. Variable names must start with a letter or underscore and contain only letters, numbers, and underscores.");
         }
@@ -29,10 +30,16 @@ public class DefineCommand implements Command {
         try {
             double value = Double.parseDouble(valueString);
             context.defineVariable(variableName, value);
-            logger.info("DEFINE executed: {} = {}", variableName, value);
+            if (CalculatorLogger.HOT_PATH_INFO) {
+                logger.info("DEFINE executed: {} = {}", variableName, box(value));
+            }
         } catch (NumberFormatException e) {
             logger.error("DEFINE operation failed: '{}' is not a valid number.", valueString);
             throw new InvalidArgumentException("Error: '" + valueString + "' is not a valid number.");
         }
     }
+
+    public static boolean isValidName(String name) {
+        return VALID_VARIABLE_PATTERN.matcher(name).matches();
+    }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import lab_2.calculator.exceptions.StackUnderflowException;
 import lab_2.calculator.exceptions.DivisionByZeroException;
 import org.apache.logging.log4j.Logger;
 import java.util.List;
+import static org.apache.logging.log4j.util.Unbox.box;
 
 public class DivideCommand implements Command {
     private static final Logger logger = CalculatorLogger.getLogger();
@@ -25,6 +26,8 @@ public class DivideCommand implements Command {
         double dividend = context.pop();
         double result = dividend / divisor;
         context.push(result);
-        logger.info("DIVIDE executed: {} / {} = {}", dividend, divisor, result);
+        if (CalculatorLogger.HOT_PATH_INFO) {
+            logger.info("DIVIDE executed: {} / {} = {}", box(dividend), box(divisor), box(result));
+        }
     }
 }
\ No newline at end of file
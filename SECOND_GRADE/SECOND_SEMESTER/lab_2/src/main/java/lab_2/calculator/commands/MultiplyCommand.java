@@ -4,6 +4,7 @@ import lab_2.calculator.logger.CalculatorLogger;
 import lab_2.calculator.exceptions.StackUnderflowException;
 import org.apache.logging.log4j.Logger;
 import java.util.List;
+import static org.apache.logging.log4j.util.Unbox.box;
 
 public class MultiplyCommand implements Command {
     private static final Logger logger = CalculatorLogger.getLogger();
@@ -20,6 +21,8 @@ public class MultiplyCommand implements Command {
 
         double result = operand1 * operand2;
         context.push(result);
-        logger.info("MULTIPLY executed: {} * {} = {}", operand1, operand2, result);
+        if (CalculatorLogger.HOT_PATH_INFO) {
+            logger.info("MULTIPLY executed: {} * {} = {}", box(operand1), box(operand2), box(result));
+        }
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import lab_2.calculator.logger.CalculatorLogger;
 import lab_2.calculator.exceptions.StackUnderflowException;
 import org.apache.logging.log4j.Logger;
 import java.util.List;
+import static org.apache.logging.log4j.util.Unbox.box;
 
 public class PopCommand implements Command {
     private static final Logger logger = CalculatorLogger.getLogger();
@@ -16,6 +17,8 @@ public class PopCommand implements Command {
         }
 
         double removedValue = context.pop();
-        logger.info("POP executed: Removed {}", removedValue);
+        if (CalculatorLogger.HOT_PATH_INFO) {
+            logger.info("POP executed: Removed {}", box(removedValue));
+        }
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import lab_2.calculator.logger.CalculatorLogger;
 import lab_2.calculator.exceptions.StackUnderflowException;
 import org.apache.logging.log4j.Logger;
 import java.util.List;
+import static org.apache.logging.log4j.util.Unbox.box;
 
 public class PrintCommand implements Command {
     private static final Logger logger = CalculatorLogger.getLogger();
@@ -17,7 +18,9 @@ public class PrintCommand implements Command {
         }
 
         double value = context.getTop();
-        System.out.println(value);
-        logger.info("PRINT executed: Top value is {}", value);
+        context.getOutput().println(value);
+        if (CalculatorLogger.HOT_PATH_INFO) {
+            logger.info("PRINT executed: Top value is {}", box(value));
+        }
     }
 }
\ No newline at end of file
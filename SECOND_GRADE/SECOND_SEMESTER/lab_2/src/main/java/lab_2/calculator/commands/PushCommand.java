@@ -4,6 +4,7 @@ import lab_2.calculator.logger.CalculatorLogger;
 import lab_2.calculator.exceptions.InvalidArgumentException;
 import org.apache.logging.log4j.Logger;
 import java.util.List;
+import static org.apache.logging.log4j.util.Unbox.box;
 
 public class PushCommand implements Command {
     private static final Logger logger = CalculatorLogger.getLogger();
@@ -18,17 +19,28 @@ public class PushCommand implements Command {
         String arg = args.get(0);
 
         try {
-            double value = Double.parseDouble(arg);
-            context.push(value);
-            logger.info("PUSH executed: Pushed value {}", value);
+            pushValue(context, Double.parseDouble(arg));
         } catch (NumberFormatException e) {
-            if (!context.hasVariable(arg)) {
-                logger.error("Push operation failed: '{}' is not a number or a defined variable.", arg);
-                throw new InvalidArgumentException("Error: '" + arg + "' is not a number or a defined variable.");
-            }
-            double value = context.getVariable(arg);
-            context.push(value);
-            logger.info("PUSH executed: Pushed variable '{}' with value {}", arg, value);
+            pushVariable(context, arg);
+        }
+    }
+
+    public void pushValue(ExecutionContext context, double value) {
+        context.push(value);
+        if (CalculatorLogger.HOT_PATH_INFO) {
+            logger.info("PUSH executed: Pushed value {}", box(value));
+        }
+    }
+
+    public void pushVariable(ExecutionContext context, String name) throws InvalidArgumentException {
+        if (!context.hasVariable(name)) {
+            logger.error("Push operation failed: '{}' is not a number or a defined variable.", name);
+            throw new InvalidArgumentException("Error: '" + name + "' is not a number or a defined variable.");
+        }
+        double value = context.getVariable(name);
+        context.push(value);
+        if (CalculatorLogger.HOT_PATH_INFO) {
+            logger.info("PUSH executed: Pushed variable '{}' with value {}", name, box(value));
         }
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import lab_2.calculator.exceptions.StackUnderflowException;
 import lab_2.calculator.exceptions.InvalidArgumentException;
 import org.apache.logging.log4j.Logger;
 import java.util.List;
+import static org.apache.logging.log4j.util.Unbox.box;
 
 public class SqrtCommand implements Command {
     private static final Logger logger = CalculatorLogger.getLogger();
@@ -24,6 +25,8 @@ public class SqrtCommand implements Command {
 
         double result = Math.sqrt(value);
         context.push(result);
-        logger.info("SQRT executed: sqrt({}) = {}", value, result);
+        if (CalculatorLogger.HOT_PATH_INFO) {
+            logger.info("SQRT executed: sqrt({}) = {}", box(value), box(result));
+        }
     }
 }
\ No newline at end of file
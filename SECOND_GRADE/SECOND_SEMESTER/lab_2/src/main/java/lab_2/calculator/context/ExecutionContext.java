@@ -1,34 +1,50 @@
 package lab_2.calculator.context;
 
+import java.io.PrintStream;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Stack;
 
 public class ExecutionContext {
-    private final Stack<Double> stack;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private double[] stack;
+    private int size;
     private final Map<String, Double> variables;
+    private final PrintStream output;
+
+    public ExecutionContext() { this(System.out); }
 
-    public ExecutionContext() {
-        stack = new Stack<>();
+    public ExecutionContext(PrintStream output) {
+        stack = new double[INITIAL_CAPACITY];
         variables = new HashMap<>();
+        this.output = output;
+    }
+
+    public PrintStream getOutput() { return output; }
+
+    public void push(double value) {
+        if (size == stack.length) {
+            stack = Arrays.copyOf(stack, stack.length * 2);
+        }
+        stack[size++] = value;
     }
 
-    public void push(double value) { stack.push(value);}
     public boolean hasVariable(String name) { return variables.containsKey(name); }
-    public int getStackSize() { return stack.size(); }
+    public int getStackSize() { return size; }
 
     public double pop() {
-        if (stack.isEmpty()) {
+        if (size == 0) {
             throw new IllegalStateException("Error: Cannot pop from an empty stack.");
         }
-        return stack.pop();
+        return stack[--size];
     }
 
     public double getTop() {
-        if (stack.isEmpty()) {
+        if (size == 0) {
             throw new IllegalStateException("Error: Stack is empty, cannot retrieve top element.");
         }
-        return stack.peek();
+        return stack[size - 1];
     }
 
     public void defineVariable(String name, double value) {
@@ -47,7 +63,7 @@ public class ExecutionContext {
     }
 
     public void clear() {
-        stack.clear();
+        size = 0;
         variables.clear();
     }
 }
\ No newline at end of file
@@ -2,39 +2,88 @@ package lab_2.calculator.factory;
 
 import lab_2.calculator.commands.Command;
 import java.io.*;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Properties;
 
 public class CommandFactory {
-    private final Map<String, Class<? extends Command>> commandMap = new HashMap<>();
+    private record Dispatch(Map<String, Integer> opcodes, Command[] commands) {}
 
-    public CommandFactory() { loadConfig(); }
+    private final Map<String, Command> builtins = new LinkedHashMap<>();
+    private volatile Dispatch dispatch = new Dispatch(Map.of(), new Command[0]);
+
+    public CommandFactory() {
+        loadConfig();
+        update(Map.of());
+    }
 
     void loadConfig() {
         try (InputStream input = getClass().getResourceAsStream("/commands.config")) {
             if (input == null) {
                 throw new RuntimeException("Error: File commands.config is not found!");
             }
-            Properties properties = new Properties();
-            properties.load(input);
+            builtins.putAll(loadCommands(input, getClass().getClassLoader(), new HashMap<>()));
+        } catch (IOException | ReflectiveOperationException | ClassCastException e) {
+            throw new RuntimeException("Error of uploading commands configuration: " + e.getMessage());
+        }
+    }
+
+    public static Map<String, Command> loadCommands(InputStream input, ClassLoader loader, Map<Class<?>, Command> instances)
+            throws IOException, ReflectiveOperationException {
+        Properties properties = new Properties();
+        properties.load(input);
 
-            for (String key : properties.stringPropertyNames()) {
-                String className = properties.getProperty(key);
-                Class<? extends Command> commandClass = (Class<? extends Command>) Class.forName(className);
-                commandMap.put(key.toUpperCase(), commandClass);
+        Map<String, Command> commands = new LinkedHashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            Class<? extends Command> commandClass = Class.forName(properties.getProperty(key), true, loader).asSubclass(Command.class);
+            Command command = instances.get(commandClass);
+            if (command == null) {
+                command = commandClass.getDeclaredConstructor().newInstance();
+                instances.put(commandClass, command);
             }
-        } catch (IOException | ClassNotFoundException e) {
-            throw new RuntimeException("Error of uploading commands configuration: " + e.getMessage());
+            commands.put(key.toUpperCase(), command);
+        }
+        return commands;
+    }
+
+    public synchronized void update(Map<String, Command> plugins) {
+        Map<String, Command> resolved = new LinkedHashMap<>(builtins);
+        resolved.putAll(plugins);
+
+        Dispatch current = dispatch;
+        Map<String, Integer> opcodes = new HashMap<>(current.opcodes());
+        Command[] commands = new Command[current.commands().length];
+        for (Map.Entry<String, Command> entry : resolved.entrySet()) {
+            Integer opcode = opcodes.get(entry.getKey());
+            if (opcode == null) {
+                opcode = opcodes.size();
+                opcodes.put(entry.getKey(), opcode);
+                commands = Arrays.copyOf(commands, opcode + 1);
+            }
+            commands[opcode] = entry.getValue();
         }
+        dispatch = new Dispatch(Map.copyOf(opcodes), commands);
     }
 
-    public Command createCommand(String commandName) throws Exception {
-        Class<? extends Command> commandClass = commandMap.get(commandName.toUpperCase());
+    public int opcode(String commandName) { return opcode(dispatch, commandName); }
 
-        if (commandClass == null) {
+    public Command command(int opcode) { return dispatch.commands()[opcode]; }
+
+    public Command createCommand(String commandName) {
+        Dispatch current = dispatch;
+        return current.commands()[opcode(current, commandName)];
+    }
+
+    private static int opcode(Dispatch dispatch, String commandName) {
+        Integer opcode = dispatch.opcodes().get(commandName);
+        if (opcode == null) {
+            opcode = dispatch.opcodes().get(commandName.toUpperCase());
+        }
+        if (opcode == null || dispatch.commands()[opcode] == null) {
             throw new IllegalArgumentException("Error: Command '" + commandName + "' is not found!");
         }
-        return commandClass.getDeclaredConstructor().newInstance();
+        return opcode;
     }
-}
\ No newline at end of file
+}
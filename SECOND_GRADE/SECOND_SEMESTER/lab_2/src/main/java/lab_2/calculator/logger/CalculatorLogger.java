@@ -1,8 +1,17 @@
 package lab_2.calculator.logger;
+import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 public class CalculatorLogger {
     private static final Logger logger = LogManager.getLogger("CalculatorLogger");
+    private static final Level hotPathLevel = Level.toLevel(System.getProperty("calculator.hotPathLevel"), Level.INFO);
+
+    public static final boolean HOT_PATH_INFO = isHotPathEnabled(Level.INFO);
+
     public static Logger getLogger() { return logger; }
+
+    public static boolean isHotPathEnabled(Level level) {
+        return level.isMoreSpecificThan(hotPathLevel) && logger.isEnabled(level);
+    }
 }
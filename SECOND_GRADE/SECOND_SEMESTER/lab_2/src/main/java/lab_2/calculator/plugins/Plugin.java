@@ -0,0 +1,93 @@
+package lab_2.calculator.plugins;
+
+import lab_2.calculator.commands.Command;
+import lab_2.calculator.exceptions.ConfigException;
+import lab_2.calculator.exceptions.ConfigFormatException;
+import lab_2.calculator.exceptions.ConfigLoadException;
+import lab_2.calculator.factory.CommandFactory;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.Map;
+
+public record Plugin(Path jar, FileTime modified, long size, Map<String, Command> commands,
+                     URLClassLoader loader, Path copy) implements Closeable {
+    static final String CONFIG = "commands.config";
+
+    public boolean isCurrent(FileTime modified, long size) {
+        return this.modified.equals(modified) && this.size == size;
+    }
+
+    public static Plugin load(Path jar, FileTime modified, long size, Path copies) throws ConfigLoadException, ConfigFormatException {
+        String name = jar.getFileName().toString();
+        Path copy = null;
+        URL url;
+        try {
+            copy = Files.createTempFile(copies, name.substring(0, name.length() - ".jar".length()) + "-", ".jar");
+            Files.copy(jar, copy, StandardCopyOption.REPLACE_EXISTING);
+            url = copy.toUri().toURL();
+        } catch (IOException e) {
+            ConfigLoadException failure = new ConfigLoadException("Error: Plugin '" + jar + "' cannot be opened: " + e.getMessage());
+            delete(copy, failure);
+            throw failure;
+        }
+
+        URLClassLoader loader = new URLClassLoader("plugin:" + name, new URL[] {url}, CommandFactory.class.getClassLoader());
+        try {
+            return new Plugin(jar, modified, size, loadCommands(jar, loader), loader, copy);
+        } catch (ConfigException | RuntimeException | Error e) {
+            try {
+                loader.close();
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            delete(copy, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            loader.close();
+        } finally {
+            Files.deleteIfExists(copy);
+        }
+    }
+
+    private static void delete(Path copy, Throwable failure) {
+        try {
+            if (copy != null) {
+                Files.deleteIfExists(copy);
+            }
+        } catch (IOException suppressed) {
+            failure.addSuppressed(suppressed);
+        }
+    }
+
+    private static Map<String, Command> loadCommands(Path jar, URLClassLoader loader) throws ConfigLoadException, ConfigFormatException {
+        URL config = loader.findResource(CONFIG);
+        if (config == null) {
+            throw new ConfigLoadException("Error: Plugin '" + jar + "' has no " + CONFIG + "!");
+        }
+        try {
+            URLConnection connection = config.openConnection();
+            connection.setUseCaches(false);
+            try (InputStream input = connection.getInputStream()) {
+                return Map.copyOf(CommandFactory.loadCommands(input, loader, new HashMap<>()));
+            }
+        } catch (IOException e) {
+            throw new ConfigLoadException("Error: Plugin '" + jar + "' cannot be read: " + e.getMessage());
+        } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+            throw new ConfigFormatException("Error: Plugin '" + jar + "' has an invalid command: " + e.getMessage());
+        }
+    }
+}
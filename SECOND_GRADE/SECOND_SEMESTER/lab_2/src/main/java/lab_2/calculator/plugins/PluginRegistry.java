@@ -0,0 +1,142 @@
+package lab_2.calculator.plugins;
+
+import lab_2.calculator.commands.Command;
+import lab_2.calculator.exceptions.ConfigException;
+import lab_2.calculator.factory.CommandFactory;
+import lab_2.calculator.logger.CalculatorLogger;
+import org.apache.logging.log4j.Logger;
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import static java.nio.file.StandardWatchEventKinds.*;
+
+public class PluginRegistry implements AutoCloseable {
+    private static final Logger logger = CalculatorLogger.getLogger();
+    private static final long SETTLE_MILLIS = 200;
+
+    private final Path directory;
+    private final CommandFactory factory;
+    private final Map<Path, Plugin> plugins = new TreeMap<>();
+    private final List<Plugin> replaced = new ArrayList<>();
+    private Path copies;
+    private WatchService watcher;
+
+    public PluginRegistry(Path directory, CommandFactory factory) {
+        this.directory = directory;
+        this.factory = factory;
+    }
+
+    public synchronized Map<Path, Plugin> plugins() { return Map.copyOf(plugins); }
+
+    public synchronized int reload() throws IOException {
+        if (copies == null) {
+            copies = Files.createTempDirectory("calculator-plugins");
+        }
+        Map<Path, Plugin> loaded = new TreeMap<>();
+        int changed = 0;
+        try (DirectoryStream<Path> jars = Files.newDirectoryStream(directory, "*.jar")) {
+            for (Path jar : jars) {
+                FileTime modified = Files.getLastModifiedTime(jar);
+                long size = Files.size(jar);
+                Plugin plugin = plugins.get(jar);
+                if (plugin == null || !plugin.isCurrent(modified, size)) {
+                    try {
+                        plugin = Plugin.load(jar, modified, size, copies);
+                        changed++;
+                        logger.info("Loaded plugin {}: {}", jar.getFileName(), plugin.commands().keySet());
+                    } catch (ConfigException e) {
+                        logger.error(e.getMessage());
+                    }
+                }
+                if (plugin != null) {
+                    loaded.put(jar, plugin);
+                }
+            }
+        }
+        for (Path jar : plugins.keySet()) {
+            if (!loaded.containsKey(jar)) {
+                changed++;
+                logger.info("Unloaded plugin {}", jar.getFileName());
+            }
+        }
+        if (changed == 0) {
+            return 0;
+        }
+
+        for (Plugin plugin : plugins.values()) {
+            if (loaded.get(plugin.jar()) != plugin) {
+                replaced.add(plugin);
+            }
+        }
+        plugins.clear();
+        plugins.putAll(loaded);
+        Map<String, Command> commands = new LinkedHashMap<>();
+        for (Plugin plugin : plugins.values()) {
+            commands.putAll(plugin.commands());
+        }
+        factory.update(commands);
+        return changed;
+    }
+
+    public void start() throws IOException {
+        watcher = directory.getFileSystem().newWatchService();
+        directory.register(watcher, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        reload();
+        Thread thread = new Thread(this::watch, "plugin-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Watching plugin directory: {}", directory);
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watcher.take();
+                do {
+                    key.pollEvents();
+                    key.reset();
+                } while ((key = watcher.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null);
+                try {
+                    reload();
+                } catch (IOException e) {
+                    logger.error("Error reading plugin directory: {}", e.getMessage());
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            logger.debug("Stopped watching plugin directory: {}", directory);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (watcher != null) {
+            watcher.close();
+        }
+        synchronized (this) {
+            IOException failure = null;
+            replaced.addAll(plugins.values());
+            for (Plugin plugin : replaced) {
+                try {
+                    plugin.close();
+                } catch (IOException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            replaced.clear();
+            plugins.clear();
+            if (copies != null) {
+                Files.deleteIfExists(copies);
+                copies = null;
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package lab_2.calculator.program;
+
+import lab_2.calculator.commands.Command;
+import lab_2.calculator.commands.PushCommand;
+import lab_2.calculator.context.ExecutionContext;
+import lab_2.calculator.exceptions.UnknownCommandException;
+import lab_2.calculator.logger.CalculatorLogger;
+import org.apache.logging.log4j.Logger;
+import java.util.List;
+
+public class Program {
+    static final int CALL = 0;
+    static final int PUSH_CONSTANT = 1;
+    static final int PUSH_VARIABLE = 2;
+    static final int FAIL = 3;
+
+    private static final Logger logger = CalculatorLogger.getLogger();
+
+    record Call(Command command, List<String> args) {}
+
+    final int[] code;
+    final String[] names;
+    final Call[] calls;
+    final double[] constants;
+    final String[] variables;
+    final String[] errors;
+    final PushCommand push;
+
+    Program(int[] code, String[] names, Call[] calls, double[] constants, String[] variables, String[] errors, PushCommand push) {
+        this.code = code;
+        this.names = names;
+        this.calls = calls;
+        this.constants = constants;
+        this.variables = variables;
+        this.errors = errors;
+        this.push = push;
+    }
+
+    public int size() { return names.length; }
+    public int constantCount() { return constants.length; }
+    public int variableCount() { return variables.length; }
+
+    public void execute(ExecutionContext context) { execute(context, null); }
+
+    public void execute(ExecutionContext context, List<String> failures) {
+        for (int pc = 0; pc < code.length; pc += 2) {
+            int operand = code[pc + 1];
+            try {
+                switch (code[pc]) {
+                    case CALL -> calls[operand].command().execute(context, calls[operand].args());
+                    case PUSH_CONSTANT -> push.pushValue(context, constants[operand]);
+                    case PUSH_VARIABLE -> push.pushVariable(context, variables[operand]);
+                    default -> throw new UnknownCommandException(errors[operand]);
+                }
+                if (CalculatorLogger.HOT_PATH_INFO) {
+                    logger.info("Executed command: {}", names[pc >> 1]);
+                }
+            } catch (Exception e) {
+                logger.error("Error executing command: {} | {}", names[pc >> 1], e.getMessage());
+                if (failures != null) {
+                    failures.add(names[pc >> 1] + " | " + e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package lab_2.calculator.program;
+
+import lab_2.calculator.commands.*;
+import java.util.*;
+
+public class ProgramOptimizer {
+    private final Program program;
+    private final Map<String, Integer> definitions = new HashMap<>();
+    private final Map<String, Double> inlined = new HashMap<>();
+    private final List<Double> constants = new ArrayList<>();
+    private final Map<Double, Integer> constantIndex = new HashMap<>();
+    private int[] code;
+    private String[] names;
+    private int length;
+    private int pending;
+
+    private ProgramOptimizer(Program program) {
+        this.program = program;
+        this.code = new int[program.code.length];
+        this.names = new String[program.names.length];
+        for (double constant : program.constants) {
+            constant(constant);
+        }
+    }
+
+    public static Program optimize(Program program) {
+        return new ProgramOptimizer(program).run();
+    }
+
+    private Program run() {
+        for (int pc = 0; pc < program.code.length; pc += 2) {
+            if (program.code[pc] == Program.CALL && isDefine(program.calls[program.code[pc + 1]])) {
+                definitions.merge(program.calls[program.code[pc + 1]].args().get(0), 1, Integer::sum);
+            }
+        }
+
+        for (int pc = 0; pc < program.code.length; pc += 2) {
+            int operand = program.code[pc + 1];
+            String name = program.names[pc >> 1];
+            switch (program.code[pc]) {
+                case Program.PUSH_CONSTANT -> pushConstant(program.constants[operand], name);
+                case Program.PUSH_VARIABLE -> {
+                    Double value = inlined.get(program.variables[operand]);
+                    if (value != null) {
+                        pushConstant(value, name);
+                    } else {
+                        emit(Program.PUSH_VARIABLE, operand, name);
+                    }
+                }
+                case Program.CALL -> call(program.calls[operand], operand, name);
+                default -> emit(program.code[pc], operand, name);
+            }
+        }
+
+        double[] constantPool = new double[constants.size()];
+        for (int i = 0; i < constantPool.length; i++) {
+            constantPool[i] = constants.get(i);
+        }
+        return new Program(Arrays.copyOf(code, length * 2), Arrays.copyOf(names, length), program.calls,
+                constantPool, program.variables, program.errors, program.push);
+    }
+
+    private void call(Program.Call call, int operand, String name) {
+        Class<?> type = call.command().getClass();
+        if (type == CommentCommand.class) {
+            return;
+        }
+        if (type == PopCommand.class && pending >= 1) {
+            drop(1);
+            return;
+        }
+        if (type == SqrtCommand.class && pending >= 1 && !(top(0) < 0)) {
+            double value = top(0);
+            String first = names[length - 1];
+            drop(1);
+            pushConstant(Math.sqrt(value), first);
+            return;
+        }
+        if (pending >= 2 && isArithmetic(type) && !(type == DivideCommand.class && top(0) == 0.0)) {
+            double b = top(0);
+            double a = top(1);
+            String first = names[length - 2];
+            drop(2);
+            double result;
+            if (type == AddCommand.class) {
+                result = a + b;
+            } else if (type == SubtractCommand.class) {
+                result = a - b;
+            } else if (type == MultiplyCommand.class) {
+                result = a * b;
+            } else {
+                result = a / b;
+            }
+            pushConstant(result, first);
+            return;
+        }
+
+        emit(Program.CALL, operand, name);
+        if (isDefine(call) && definitions.get(call.args().get(0)) == 1 && call.args().size() == 2
+                && DefineCommand.isValidName(call.args().get(0))) {
+            try {
+                inlined.put(call.args().get(0), Double.parseDouble(call.args().get(1)));
+            } catch (NumberFormatException e) {
+                return;
+            }
+        }
+    }
+
+    private static boolean isDefine(Program.Call call) {
+        return call.command().getClass() == DefineCommand.class && !call.args().isEmpty();
+    }
+
+    private static boolean isArithmetic(Class<?> type) {
+        return type == AddCommand.class || type == SubtractCommand.class
+                || type == MultiplyCommand.class || type == DivideCommand.class;
+    }
+
+    private void pushConstant(double value, String name) {
+        int constants = pending + 1;
+        emit(Program.PUSH_CONSTANT, constant(value), name);
+        pending = constants;
+    }
+
+    private void emit(int opcode, int operand, String name) {
+        code[length * 2] = opcode;
+        code[length * 2 + 1] = operand;
+        names[length++] = name;
+        pending = 0;
+    }
+
+    private double top(int depth) {
+        return constants.get(code[(length - 1 - depth) * 2 + 1]);
+    }
+
+    private void drop(int count) {
+        length -= count;
+        pending -= count;
+    }
+
+    private int constant(double value) {
+        return constantIndex.computeIfAbsent(value, key -> {
+            constants.add(key);
+            return constants.size() - 1;
+        });
+    }
+}
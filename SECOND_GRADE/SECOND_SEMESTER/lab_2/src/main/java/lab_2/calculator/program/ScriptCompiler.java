@@ -0,0 +1,115 @@
+package lab_2.calculator.program;
+
+import lab_2.calculator.commands.Command;
+import lab_2.calculator.commands.PushCommand;
+import lab_2.calculator.factory.CommandFactory;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.*;
+
+public class ScriptCompiler {
+    private final CommandFactory factory;
+
+    public ScriptCompiler(CommandFactory factory) { this.factory = factory; }
+
+    public Program compile(BufferedReader reader) throws IOException {
+        Assembler assembler = new Assembler();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            assembler.compileLine(line);
+        }
+        return assembler.build();
+    }
+
+    public Program compile(String script) {
+        Assembler assembler = new Assembler();
+        for (String line : script.split("\\R")) {
+            assembler.compileLine(line);
+        }
+        return assembler.build();
+    }
+
+    private class Assembler {
+        private int[] code = new int[64];
+        private int length;
+        private final List<String> names = new ArrayList<>();
+        private final Map<String, String> distinctNames = new HashMap<>();
+        private final Map<Program.Call, Integer> calls = new HashMap<>();
+        private final Map<Double, Integer> constants = new HashMap<>();
+        private final Map<String, Integer> variables = new HashMap<>();
+        private final List<String> errors = new ArrayList<>();
+        private PushCommand push;
+
+        void compileLine(String line) {
+            String[] parts = parseLine(line);
+            if (parts.length == 0) { return; }
+
+            String commandName = distinctNames.computeIfAbsent(parts[0], name -> name);
+            names.add(commandName);
+
+            Command command;
+            try {
+                command = factory.createCommand(commandName);
+            } catch (IllegalArgumentException e) {
+                emit(Program.FAIL, errors.size());
+                errors.add(e.getMessage());
+                return;
+            }
+
+            if (command.getClass() == PushCommand.class && parts.length > 1) {
+                push = (PushCommand) command;
+                try {
+                    double value = Double.parseDouble(parts[1]);
+                    emit(Program.PUSH_CONSTANT, constants.computeIfAbsent(value, key -> constants.size()));
+                } catch (NumberFormatException e) {
+                    emit(Program.PUSH_VARIABLE, variables.computeIfAbsent(parts[1], key -> variables.size()));
+                }
+                return;
+            }
+            Program.Call call = new Program.Call(command, List.of(parts).subList(1, parts.length));
+            emit(Program.CALL, calls.computeIfAbsent(call, key -> calls.size()));
+        }
+
+        Program build() {
+            double[] constantPool = new double[constants.size()];
+            constants.forEach((value, index) -> constantPool[index] = value);
+            String[] variablePool = new String[variables.size()];
+            variables.forEach((name, index) -> variablePool[index] = name);
+            Program.Call[] callPool = new Program.Call[calls.size()];
+            calls.forEach((call, index) -> callPool[index] = call);
+            return new Program(Arrays.copyOf(code, length), names.toArray(new String[0]), callPool,
+                    constantPool, variablePool, errors.toArray(new String[0]), push);
+        }
+
+        private void emit(int opcode, int operand) {
+            if (length + 2 > code.length) {
+                code = Arrays.copyOf(code, code.length * 2);
+            }
+            code[length++] = opcode;
+            code[length++] = operand;
+        }
+    }
+
+    public static String[] parseLine(String line) {
+        line = line.trim();
+        if (line.isEmpty() || line.startsWith("#")) { return new String[0]; }
+
+        List<String> parts = new ArrayList<>(2);
+        int start = -1;
+        for (int i = 0; i <= line.length(); i++) {
+            if (i == line.length() || isWhitespace(line.charAt(i))) {
+                if (start >= 0) {
+                    parts.add(line.substring(start, i));
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+        return parts.toArray(new String[0]);
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -0,0 +1,68 @@
+package lab_2.calculator.batch;
+
+import lab_2.calculator.factory.CommandFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchRunnerTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testResultsKeepScriptOrder() throws IOException {
+        List<Path> scripts = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Path script = directory.resolve(String.format("script%03d.txt", i));
+            Files.writeString(script, "PUSH " + i + "\nPUSH 2\nMULTIPLY\nPRINT\n");
+            scripts.add(script);
+        }
+        List<ScriptResult> results = new ArrayList<>();
+        new BatchRunner(new CommandFactory(), 4).run(BatchRunner.listScripts(directory), results::add);
+
+        assertEquals(scripts.size(), results.size(), "Every script should produce a result.");
+        for (int i = 0; i < scripts.size(); i++) {
+            assertEquals(scripts.get(i), results.get(i).script(), "Results should be in script order.");
+            assertEquals((i * 2.0) + System.lineSeparator(), results.get(i).output(), "Each script should print its own result.");
+            assertFalse(results.get(i).hasErrors(), "Script should run without errors.");
+        }
+    }
+
+    @Test
+    void testContextsAreIsolated() throws IOException {
+        Path first = directory.resolve("a.txt");
+        Path second = directory.resolve("b.txt");
+        Files.writeString(first, "DEFINE x 5\nPUSH x\nPRINT\n");
+        Files.writeString(second, "PUSH x\nPRINT\n");
+
+        List<ScriptResult> results = new ArrayList<>();
+        new BatchRunner(new CommandFactory(), 1).run(List.of(first, second), results::add);
+
+        assertEquals("5.0" + System.lineSeparator(), results.get(0).output(), "First script should see its own variable.");
+        ScriptResult result = results.get(1);
+        assertEquals("", result.output(), "Nothing should be printed from an empty stack.");
+        assertEquals(2, result.errors().size(), "Both lines should fail without the other script's variable.");
+        assertTrue(result.errors().get(0).startsWith("PUSH | "), "Errors should name the failed command.");
+        assertTrue(result.errors().get(0).contains("'x'"), "PUSH x should fail on the undefined variable.");
+    }
+
+    @Test
+    void testManifestResolvesRelativePaths() throws IOException {
+        Files.createDirectory(directory.resolve("scripts"));
+        Files.writeString(directory.resolve("scripts/one.txt"), "PUSH 1\nPRINT\n");
+        Files.writeString(directory.resolve("manifest.txt"), "# scripts\nscripts/one.txt\n\nmissing.txt\n");
+
+        List<Path> scripts = BatchRunner.listScripts(directory.resolve("manifest.txt"));
+        List<ScriptResult> results = new ArrayList<>();
+        new BatchRunner(new CommandFactory(), 1).run(scripts, results::add);
+
+        assertEquals(2, results.size(), "Comments and blank lines should be skipped.");
+        assertEquals("1.0" + System.lineSeparator(), results.get(0).output(), "Script should be found next to the manifest.");
+        assertTrue(results.get(1).hasErrors(), "A missing script should be reported as an error.");
+    }
+}
@@ -0,0 +1,41 @@
+package lab_2.calculator.columnar;
+
+import org.junit.jupiter.api.Test;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnTableTest {
+
+    private static ColumnTable read(String csv) throws IOException {
+        return ColumnTable.read(new BufferedReader(new StringReader(csv)));
+    }
+
+    @Test
+    void testReadColumns() throws IOException {
+        ColumnTable table = read("a, b\n1,2.5\n\n-3, \n");
+        assertEquals(2, table.rows(), "Blank lines should be skipped.");
+        assertArrayEquals(new double[] {1.0, -3.0}, table.column("a"), "Column a should be read.");
+        assertArrayEquals(new double[] {2.5, Double.NaN}, table.column("b"), "Empty cells should be NaN.");
+    }
+
+    @Test
+    void testInvalidRowsThrowException() {
+        assertThrows(IOException.class, () -> read("a,b\n1\n"), "Missing values should be rejected.");
+        assertThrows(IOException.class, () -> read("a,b\n1,2,3\n"), "Extra values should be rejected.");
+        Exception exception = assertThrows(IOException.class, () -> read("a,b\n1,x\n"));
+        assertTrue(exception.getMessage().contains("'x' in row 1, column 'b'"), "Error should name the cell.");
+        exception = assertThrows(IOException.class, () -> read("a,b, a\n1,2,3\n"));
+        assertTrue(exception.getMessage().contains("'a'"), "Duplicate column names should be rejected.");
+    }
+
+    @Test
+    void testWriteTable() throws IOException {
+        StringWriter output = new StringWriter();
+        read("a,b\n1,2\n3,4\n").write(output);
+        String separator = System.lineSeparator();
+        assertEquals("a,b" + separator + "1.0,2.0" + separator + "3.0,4.0" + separator, output.toString(), "Table should be written as CSV.");
+    }
+}
@@ -0,0 +1,64 @@
+package lab_2.calculator.columnar;
+
+import lab_2.calculator.factory.CommandFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarProgramTest {
+    private ColumnarCompiler compiler;
+    private ColumnTable input;
+
+    @BeforeEach
+    void setUp() {
+        compiler = new ColumnarCompiler(new CommandFactory());
+        Map<String, double[]> columns = new LinkedHashMap<>();
+        columns.put("x", new double[] {1.0, 4.0, 9.0, -1.0});
+        columns.put("y", new double[] {2.0, 0.0, 3.0, 1.0});
+        input = new ColumnTable(columns, 4);
+    }
+
+    private ColumnTable run(String script) throws IOException {
+        return compiler.compile(new BufferedReader(new StringReader(script))).execute(input);
+    }
+
+    @Test
+    void testArithmeticIsElementWise() throws IOException {
+        ColumnTable result = run("PUSH x\nPUSH y\nMULTIPLY\nPUSH 1\nADD\nPRINT\nPUSH x\nPUSH y\nSUBTRACT\nPRINT");
+        assertArrayEquals(new double[] {3.0, 1.0, 28.0, 0.0}, result.column("print_1"), "x * y + 1 should be computed per row.");
+        assertArrayEquals(new double[] {-1.0, 4.0, 6.0, -2.0}, result.column("print_2"), "x - y should be computed per row.");
+    }
+
+    @Test
+    void testInvalidRowsBecomeNaN() throws IOException {
+        ColumnTable result = run("PUSH x\nPUSH y\nDIVIDE\nPRINT\nPUSH x\nSQRT\nPRINT");
+        assertArrayEquals(new double[] {0.5, Double.NaN, 3.0, -1.0}, result.column("print_1"), "Division by zero should give NaN.");
+        assertArrayEquals(new double[] {1.0, 2.0, 3.0, Double.NaN}, result.column("print_2"), "Square root of a negative number should give NaN.");
+    }
+
+    @Test
+    void testInputColumnsAreNotModified() throws IOException {
+        ColumnTable result = run("PUSH x\nPRINT\nPUSH x\nADD\nPUSH x\nMULTIPLY\nPRINT");
+        assertArrayEquals(new double[] {1.0, 4.0, 9.0, -1.0}, input.column("x"), "Input column should be unchanged.");
+        assertArrayEquals(new double[] {1.0, 4.0, 9.0, -1.0}, result.column("print_1"), "Printed column should be unchanged.");
+        assertArrayEquals(new double[] {2.0, 32.0, 162.0, 2.0}, result.column("print_2"), "(x + x) * x should be computed per row.");
+    }
+
+    @Test
+    void testDefineBroadcastsConstant() throws IOException {
+        ColumnTable result = run("DEFINE k 10\nDEFINE 1bad 2\nPUSH y\nPUSH k\nMULTIPLY\nPRINT");
+        assertArrayEquals(new double[] {20.0, 0.0, 30.0, 10.0}, result.column("print_1"), "Defined constant should apply to every row.");
+    }
+
+    @Test
+    void testErrorsDoNotStopExecution() throws IOException {
+        ColumnTable result = run("PUSH x\nADD\nUNKNOWN\nPUSH missing\nPOP\nPOP\nPUSH 7\nPRINT");
+        assertEquals(1, result.columns().size(), "Only the last PRINT should produce a column.");
+        assertArrayEquals(new double[] {7.0, 7.0, 7.0, 7.0}, result.column("print_1"), "Failed lines should be skipped.");
+    }
+}
@@ -4,6 +4,8 @@ import lab_2.calculator.context.ExecutionContext;
 import lab_2.calculator.exceptions.StackUnderflowException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
 import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -23,6 +25,16 @@ public class PrintCommandTest {
         assertDoesNotThrow(() -> printCommand.execute(context, List.of()));
     }
 
+    @Test
+    void testPrintWritesToContextOutput() throws StackUnderflowException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        context = new ExecutionContext(new PrintStream(output));
+        context.push(2.5);
+        printCommand.execute(context, List.of());
+        assertEquals("2.5" + System.lineSeparator(), output.toString(), "PRINT should write the top value to the context output.");
+        assertEquals(1, context.getStackSize(), "PRINT should not remove the value.");
+    }
+
     @Test
     void testPrintEmptyStackThrowsException() {
         Exception exception = assertThrows(StackUnderflowException.class,
@@ -34,6 +34,17 @@ class ExecutionContextTest {
         assertEquals(2, context.getStackSize(), "Stack size should be 2.");
     }
 
+    @Test
+    void testStackGrowsBeyondInitialCapacity() {
+        for (int i = 0; i < 1000; i++) {
+            context.push(i);
+        }
+        assertEquals(1000, context.getStackSize(), "Stack size should be 1000.");
+        for (int i = 999; i >= 0; i--) {
+            assertEquals(i, context.pop(), "Values should be popped in reverse order.");
+        }
+    }
+
     @Test
     void testClearStack() {
         context.push(30.0);
@@ -3,6 +3,7 @@ package lab_2.calculator.factory;
 import lab_2.calculator.commands.*;
 import lab_2.calculator.exceptions.ConfigLoadException;
 import org.junit.jupiter.api.Test;
+import java.util.Map;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class CommandFactoryTest {
@@ -58,4 +59,35 @@ public class CommandFactoryTest {
         assertTrue(exception.getMessage().contains("Error: Command 'INVALID' is not found"),
                 "Should throw an exception for an invalid command.");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCommandsAreResolvedOnce() {
+        CommandFactory factory = new CommandFactory();
+        assertSame(factory.createCommand("ADD"), factory.createCommand("ADD"), "The same command instance should be reused.");
+        assertSame(factory.createCommand("ADD"), factory.createCommand("add"), "Command names should be case-insensitive.");
+    }
+
+    @Test
+    void testOpcodeLookup() {
+        CommandFactory factory = new CommandFactory();
+        int opcode = factory.opcode("Sqrt");
+        assertInstanceOf(SqrtCommand.class, factory.command(opcode), "Opcode should resolve to SqrtCommand.");
+        assertThrows(IllegalArgumentException.class, () -> factory.opcode("INVALID"));
+    }
+
+    @Test
+    void testUpdateSwapsCommands() {
+        CommandFactory factory = new CommandFactory();
+        int opcode = factory.opcode("ADD");
+        Command replacement = new MultiplyCommand();
+
+        factory.update(Map.of("ADD", replacement, "TIMES", replacement));
+        assertSame(replacement, factory.createCommand("add"), "Plugin commands should override built-in ones.");
+        assertEquals(opcode, factory.opcode("ADD"), "Opcodes should stay stable across updates.");
+        assertSame(replacement, factory.createCommand("TIMES"));
+
+        factory.update(Map.of());
+        assertInstanceOf(AddCommand.class, factory.createCommand("ADD"), "Built-in command should come back.");
+        assertThrows(IllegalArgumentException.class, () -> factory.createCommand("TIMES"));
+    }
+}
@@ -0,0 +1,20 @@
+package lab_2.calculator.logger;
+
+import org.apache.logging.log4j.Level;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalculatorLoggerTest {
+
+    @Test
+    void testInfoTracingIsEnabledByDefault() {
+        assertTrue(CalculatorLogger.HOT_PATH_INFO, "INFO tracing should be on with the default configuration.");
+        assertTrue(CalculatorLogger.isHotPathEnabled(Level.ERROR), "Errors should always be logged.");
+    }
+
+    @Test
+    void testLevelsBelowConfigurationAreDisabled() {
+        assertFalse(CalculatorLogger.isHotPathEnabled(Level.DEBUG), "DEBUG is below the configured INFO level.");
+        assertFalse(CalculatorLogger.isHotPathEnabled(Level.TRACE), "TRACE is below the configured INFO level.");
+    }
+}
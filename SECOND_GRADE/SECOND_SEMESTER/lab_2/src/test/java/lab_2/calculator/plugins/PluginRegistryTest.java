@@ -0,0 +1,186 @@
+package lab_2.calculator.plugins;
+
+import lab_2.calculator.commands.Command;
+import lab_2.calculator.context.ExecutionContext;
+import lab_2.calculator.factory.CommandFactory;
+import lab_2.calculator.program.Program;
+import lab_2.calculator.program.ScriptCompiler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PluginRegistryTest {
+    @TempDir
+    Path directory;
+
+    @TempDir
+    Path build;
+
+    private Path plugins;
+    private CommandFactory factory;
+    private PluginRegistry registry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        plugins = Files.createDirectory(directory.resolve("plugins"));
+        factory = new CommandFactory();
+        registry = new PluginRegistry(plugins, factory);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        registry.close();
+    }
+
+    private Path plugin(String name, String command, double factor, long time) throws Exception {
+        Path sources = Files.createDirectories(build.resolve(name + factor));
+        Path source = sources.resolve("ScaleCommand.java");
+        Files.writeString(source, "package demo;\n"
+                + "public class ScaleCommand implements lab_2.calculator.commands.Command {\n"
+                + "    public void execute(lab_2.calculator.context.ExecutionContext context, java.util.List<String> args) {\n"
+                + "        context.push(Factor.apply(context.pop()));\n"
+                + "    }\n"
+                + "}\n");
+        Path helper = sources.resolve("Factor.java");
+        Files.writeString(helper, "package demo;\n"
+                + "class Factor {\n"
+                + "    static double apply(double value) { return value * " + factor + "; }\n"
+                + "}\n");
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        String classpath = Path.of(Command.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        assertEquals(0, compiler.run(null, null, null, "-classpath", classpath, "-d", sources.toString(), source.toString(), helper.toString()));
+
+        Path jar = build.resolve(name + factor + ".jar");
+        try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar))) {
+            output.putNextEntry(new JarEntry("demo/ScaleCommand.class"));
+            Files.copy(sources.resolve("demo/ScaleCommand.class"), output);
+            output.putNextEntry(new JarEntry("demo/Factor.class"));
+            Files.copy(sources.resolve("demo/Factor.class"), output);
+            output.putNextEntry(new JarEntry("commands.config"));
+            output.write((command + "=demo.ScaleCommand\n").getBytes(StandardCharsets.UTF_8));
+        }
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(time));
+        return Files.move(jar, plugins.resolve(name + ".jar"), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private double run(Program program) {
+        ExecutionContext context = new ExecutionContext();
+        program.execute(context);
+        return context.getTop();
+    }
+
+    @Test
+    void testLoadPluginInIsolatedClassLoader() throws Exception {
+        plugin("scale", "TRIPLE", 3, 1000);
+        assertEquals(1, registry.reload(), "New plugin should be loaded.");
+
+        Command command = factory.createCommand("triple");
+        assertNotSame(CommandFactory.class.getClassLoader(), command.getClass().getClassLoader(),
+                "Plugin classes should come from their own class loader.");
+        assertEquals(6.0, run(new ScriptCompiler(factory).compile("PUSH 2\nTRIPLE")));
+    }
+
+    @Test
+    void testUnchangedPluginsAreCached() throws Exception {
+        plugin("scale", "TRIPLE", 3, 1000);
+        plugin("other", "DOUBLE", 2, 1000);
+        registry.reload();
+        Command triple = factory.createCommand("TRIPLE");
+        Command twice = factory.createCommand("DOUBLE");
+
+        assertEquals(0, registry.reload(), "Nothing changed, nothing should be reloaded.");
+        plugin("other", "DOUBLE", 4, 2000);
+        assertEquals(1, registry.reload(), "Only the changed plugin should be reloaded.");
+        assertSame(triple, factory.createCommand("TRIPLE"), "Unchanged plugin should keep its command.");
+        assertNotSame(twice, factory.createCommand("DOUBLE"), "Changed plugin should get a new command.");
+    }
+
+    @Test
+    void testCompiledProgramsKeepTheirCommands() throws Exception {
+        plugin("scale", "SCALE", 3, 1000);
+        registry.reload();
+        Program before = new ScriptCompiler(factory).compile("PUSH 2\nSCALE");
+
+        plugin("scale", "SCALE", 5, 2000);
+        registry.reload();
+        Program after = new ScriptCompiler(factory).compile("PUSH 2\nSCALE");
+
+        assertEquals(6.0, run(before), "Compiled program should keep the command it was compiled with.");
+        assertEquals(10.0, run(after), "New programs should use the reloaded command.");
+    }
+
+    @Test
+    void testRemovedPluginIsUnloaded() throws Exception {
+        Path jar = plugin("scale", "TRIPLE", 3, 1000);
+        registry.reload();
+        Files.delete(jar);
+
+        assertEquals(1, registry.reload());
+        assertThrows(IllegalArgumentException.class, () -> factory.createCommand("TRIPLE"));
+        assertNotNull(factory.createCommand("ADD"), "Built-in commands should stay available.");
+    }
+
+    @Test
+    void testBrokenPluginIsSkipped() throws Exception {
+        try (OutputStream output = Files.newOutputStream(plugins.resolve("broken.jar"))) {
+            output.write("not a jar".getBytes(StandardCharsets.UTF_8));
+        }
+        plugin("scale", "TRIPLE", 3, 1000);
+
+        assertEquals(1, registry.reload(), "Only the valid plugin should be loaded.");
+        assertNotNull(factory.createCommand("TRIPLE"));
+    }
+
+    @Test
+    void testWatcherPicksUpNewPlugins() throws Exception {
+        try (PluginRegistry watching = registry) {
+            watching.start();
+            plugin("scale", "TRIPLE", 3, 1000);
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (registry.plugins().isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertNotNull(factory.createCommand("TRIPLE"), "Watcher should load the new plugin.");
+        }
+    }
+
+    @Test
+    void testJarOverwrittenInPlaceDoesNotBreakLoadedCommands() throws Exception {
+        Path jar = plugin("scale", "TRIPLE", 3, 1000);
+        registry.reload();
+        Program program = new ScriptCompiler(factory).compile("PUSH 2\nTRIPLE");
+
+        Files.write(jar, "not a jar any more".getBytes(StandardCharsets.UTF_8));
+        assertEquals(6.0, run(program), "Classes loaded later should come from the private copy of the jar.");
+    }
+
+    @Test
+    void testCloseReleasesReplacedPlugins() throws Exception {
+        Path jar = plugin("scale", "TRIPLE", 3, 1000);
+        registry.reload();
+        Path first = registry.plugins().get(jar).copy();
+        plugin("scale", "TRIPLE", 5, 2000);
+        registry.reload();
+        Path second = registry.plugins().get(jar).copy();
+
+        assertNotEquals(first, second);
+        assertTrue(Files.exists(first), "A replaced plugin should stay usable while the registry is open.");
+        registry.close();
+        assertFalse(Files.exists(first), "The replaced plugin's copy should be deleted on close.");
+        assertFalse(Files.exists(second), "The current plugin's copy should be deleted on close.");
+        assertFalse(Files.exists(first.getParent()), "The copy directory should be removed on close.");
+    }
+}
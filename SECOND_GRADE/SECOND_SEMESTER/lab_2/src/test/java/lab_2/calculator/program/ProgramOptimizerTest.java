@@ -0,0 +1,93 @@
+package lab_2.calculator.program;
+
+import lab_2.calculator.commands.CommentCommand;
+import lab_2.calculator.commands.PushCommand;
+import lab_2.calculator.context.ExecutionContext;
+import lab_2.calculator.factory.CommandFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProgramOptimizerTest {
+    private ScriptCompiler compiler;
+
+    @BeforeEach
+    void setUp() {
+        compiler = new ScriptCompiler(new CommandFactory());
+    }
+
+    private Program optimize(String script) {
+        return ProgramOptimizer.optimize(compiler.compile(script));
+    }
+
+    private String run(Program program) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        List<String> errors = new ArrayList<>();
+        program.execute(new ExecutionContext(new PrintStream(output)), errors);
+        return output + String.join("\n", errors);
+    }
+
+    private void assertSameBehaviour(String script) {
+        assertEquals(run(compiler.compile(script)), run(optimize(script)), "Optimized script should print the same output and errors.");
+    }
+
+    @Test
+    void testFoldConstantExpression() {
+        Program program = optimize("PUSH 2\nPUSH 3\nMULTIPLY\nPUSH 4\nADD\nSQRT\nPRINT");
+        assertEquals(2, program.size(), "Expression should fold into a single PUSH before PRINT.");
+        assertEquals("3.1622776601683795\n", run(program).replace("\r\n", "\n"));
+    }
+
+    @Test
+    void testCollapsePushPop() {
+        assertEquals(0, optimize("PUSH 1\nPUSH 2\nPOP\nPOP").size(), "PUSH/POP pairs should cancel out.");
+        assertEquals(1, optimize("POP\nPUSH 1\nPOP").size(), "POP on an empty stack must stay to report its error.");
+    }
+
+    @Test
+    void testFailingOperationsAreNotFolded() {
+        assertEquals(3, optimize("PUSH 1\nPUSH 0\nDIVIDE").size(), "Division by zero should be left to fail at runtime.");
+        assertEquals(2, optimize("PUSH -4\nSQRT").size(), "Square root of a negative number should be left to fail at runtime.");
+        assertSameBehaviour("PUSH 1\nPUSH 0\nDIVIDE\nPRINT\nPUSH -4\nSQRT\nPRINT");
+    }
+
+    @Test
+    void testInlineConstantDefinition() {
+        Program program = optimize("DEFINE a 4\nPUSH a\nPUSH 2\nMULTIPLY\nPRINT");
+        assertEquals(3, program.size(), "DEFINE is kept and the variable is folded into one constant.");
+        assertSameBehaviour("DEFINE a 4\nPUSH a\nPUSH 2\nMULTIPLY\nPRINT");
+    }
+
+    @Test
+    void testRedefinedVariableIsNotInlined() {
+        String script = "DEFINE a 4\nPUSH a\nDEFINE a 9\nPUSH a\nADD\nPRINT";
+        assertEquals(6, optimize(script).size(), "Redefined variables must be read at runtime.");
+        assertSameBehaviour(script);
+    }
+
+    @Test
+    void testUseBeforeDefinitionIsNotInlined() {
+        String script = "PUSH a\nDEFINE a 4\nPUSH a\nPRINT";
+        assertEquals(4, optimize(script).size(), "PUSH before DEFINE must keep reporting the undefined variable.");
+        assertSameBehaviour(script);
+    }
+
+    @Test
+    void testDropComments() {
+        Program.Call comment = new Program.Call(new CommentCommand(), List.of("note"));
+        Program program = new Program(new int[] {Program.CALL, 0, Program.PUSH_CONSTANT, 0, Program.CALL, 0},
+                new String[] {"COMMENT", "PUSH", "COMMENT"}, new Program.Call[] {comment},
+                new double[] {1}, new String[0], new String[0], new PushCommand());
+        assertEquals(1, ProgramOptimizer.optimize(program).size(), "COMMENT commands should be dropped.");
+    }
+
+    @Test
+    void testErrorsAndOutputAreUnchanged() {
+        assertSameBehaviour("PUSH 10\nUNKNOWN 1\nPUSH undefined\nPUSH\nDIVIDE\nPUSH 5\nADD\nPRINT\n"
+                + "DEFINE 1bad 3\nDEFINE b x\nPUSH b\nADD\nADD\nADD\nPRINT\nPOP\nPOP\nPRINT");
+    }
+}
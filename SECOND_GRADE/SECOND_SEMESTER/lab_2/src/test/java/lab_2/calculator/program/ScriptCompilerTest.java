@@ -0,0 +1,59 @@
+package lab_2.calculator.program;
+
+import lab_2.calculator.context.ExecutionContext;
+import lab_2.calculator.factory.CommandFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScriptCompilerTest {
+    private ScriptCompiler compiler;
+    private ExecutionContext context;
+
+    @BeforeEach
+    void setUp() {
+        compiler = new ScriptCompiler(new CommandFactory());
+        context = new ExecutionContext();
+    }
+
+    @Test
+    void testCommentsAndBlankLinesAreSkipped() {
+        Program program = compiler.compile("# comment\n\n   \nPUSH 1\n  # indented comment\nPOP");
+        assertEquals(2, program.size(), "Only PUSH and POP should be compiled.");
+    }
+
+    @Test
+    void testConstantsAndVariablesArePooled() {
+        Program program = compiler.compile("PUSH 2\nPUSH 2.0\nPUSH 3\nPUSH x\nPUSH x\nPUSH y");
+        assertEquals(2, program.constantCount(), "Equal constants should share a pool entry.");
+        assertEquals(2, program.variableCount(), "Each variable should get one slot.");
+    }
+
+    @Test
+    void testExecuteScript() {
+        Program program = compiler.compile("DEFINE a 4\nPUSH a\nSQRT\npush 3\nmultiply\nPUSH 1.5\nSUBTRACT");
+        program.execute(context);
+        assertEquals(4.5, context.getTop(), "sqrt(4) * 3 - 1.5 should equal 4.5.");
+        assertEquals(1, context.getStackSize(), "Only the result should remain on the stack.");
+    }
+
+    @Test
+    void testErrorsDoNotStopExecution() {
+        Program program = compiler.compile("PUSH 10\nUNKNOWN 1\nPUSH undefined\nPUSH\nDIVIDE\nPUSH 5\nADD");
+        program.execute(context);
+        assertEquals(15.0, context.getTop(), "Failed lines should be skipped.");
+    }
+
+    @Test
+    void testProgramCanBeReused() throws Exception {
+        Program program = compiler.compile(new BufferedReader(new StringReader("PUSH 6\nPUSH 7\nMULTIPLY\n")));
+        ExecutionContext other = new ExecutionContext();
+        program.execute(context);
+        program.execute(context);
+        program.execute(other);
+        assertEquals(2, context.getStackSize(), "Each run should leave its own result.");
+        assertEquals(42.0, other.getTop(), "6 * 7 should equal 42.");
+    }
+}